@@ -1,5 +1,7 @@
 package Array;
 
+import java.util.Arrays;
+
 /*
  * Complexity Analysis
  * - 增操作：
@@ -10,7 +12,12 @@ package Array;
  *     但因为 resize 不是每次增操作都会发生，因此可以将其复杂度均摊到每次增操作中（此时均摊复杂度比最坏情况下的复杂度更有意义）。
  *     均摊之后 addLast 仍然是 O(1)。
  *   - 总的来看，增操作的时间复杂度是 O(n)。
- * - 删操作：同理也是 O(n)
+ *   - addAll 一次插入 len 个元素：只 resize 一次、只整体搬移一次后面的元素，因此是 O(n + len)；而逐个调用 addAtIndex
+ *     则是 O(n * len)。
+ * - 删操作：同理也是 O(n)。removeRange 一次删除一段，也只搬移一次，是 O(n)。
+ *
+ * - 元素的搬移（addAtIndex、removeAtIndex、resize 等）都使用 System.arraycopy 而不是 for 循环逐个赋值：复杂度上没有区别，
+ *   但 arraycopy 是 JVM 的 intrinsic，会被编译成整块的内存复制，常数项比 Java 循环小得多。
  * - 改操作：已知索引的（如 set、swap）是 O(1)；未知索引的是 O(n)
  * - 查操作：已知索引的（如 get、getFirst）是 O(1)；未知索引的（如 contains, findIndex）是 O(n)
  *
@@ -32,8 +39,7 @@ public class Array<E> {
 
     public Array(E[] arr) {  // 通过普通数组生成动态数组的构造函数
         data = (E[]) new Object[arr.length];
-        for (int i = 0; i < arr.length; i++)
-            data[i] = arr[i];
+        System.arraycopy(arr, 0, data, 0, arr.length);
         size = arr.length;
     }
 
@@ -45,14 +51,28 @@ public class Array<E> {
             throw new IllegalArgumentException("addAtIndex failed. Require index >= 0 and index <= size");
 
         if (size == getCapacity())
-            resize(getCapacity() * 2);
+            ensureCapacity(size + 1);
 
-        for (int i = size - 1; i >= index; i--)
-            data[i + 1] = data[i];
+        System.arraycopy(data, index, data, index + 1, size - index);  // 将 index 及其后面的元素整体后移一位
         data[index] = e;
         size++;
     }
 
+    // 将 src[from, from + len) 这段元素整体插入到 index 处。批量插入时只需 resize 一次、搬移一次，比逐个 addAtIndex 快得多
+    public void addAll(int index, E[] src, int from, int len) {
+        if (index < 0 || index > size)
+            throw new IllegalArgumentException("addAll failed. Require index >= 0 and index <= size");
+        if (src == null || from < 0 || len < 0 || from + len > src.length)
+            throw new IllegalArgumentException("addAll failed. Require from >= 0, len >= 0 and from + len <= src.length");
+
+        ensureCapacity(size + len);
+        System.arraycopy(data, index, data, index + len, size - index);  // 先给新元素腾出 len 个位置
+        System.arraycopy(src, from, data, index, len);
+        size += len;
+    }
+
+    public void addAll(E[] src) { addAll(size, src, 0, src.length); }
+
     public void addLast(E e) { addAtIndex(size, e); }
 
     public void addFirst(E e) { addAtIndex(0, e); }
@@ -65,8 +85,7 @@ public class Array<E> {
             throw new IllegalArgumentException("removeAtIndex failed. Require index >= 0 and index < size");
 
         E removed = data[index];
-        for (int i = index + 1; i < size; i++)
-            data[i - 1] = data[i];
+        System.arraycopy(data, index + 1, data, index, size - index - 1);  // 将 index 后面的元素整体前移一位
         data[size - 1] = null;  // set the loitering object to null
         size--;
 
@@ -76,6 +95,20 @@ public class Array<E> {
         return removed;
     }
 
+    // 删除 [from, to) 区间内的元素
+    public void removeRange(int from, int to) {
+        if (from < 0 || to > size || from > to)
+            throw new IllegalArgumentException("removeRange failed. Require 0 <= from <= to <= size");
+
+        System.arraycopy(data, to, data, from, size - to);
+        int newSize = size - (to - from);
+        Arrays.fill(data, newSize, size, null);  // set the loitering objects to null
+        size = newSize;
+
+        if (size <= getCapacity() / 4 && getCapacity() / 2 != 0)  // 与 removeAtIndex 一样 lazy 地缩容
+            resize(getCapacity() / 2);
+    }
+
     public E removeLast() { return removeAtIndex(size - 1); }
 
     public E removeFirst() { return removeAtIndex(0); }
@@ -139,6 +172,17 @@ public class Array<E> {
 
     public boolean contains(E e) { return findIndex(e) != -1; }
 
+    public Object[] toArray() { return Arrays.copyOf(data, size); }
+
+    public E[] toArray(E[] a) {  // 与 java.util.List 一致：a 装得下就拷到 a 里，否则创建一个与 a 同类型的新数组
+        if (a.length < size)
+            return (E[]) Arrays.copyOf(data, size, a.getClass());
+        System.arraycopy(data, 0, a, 0, size);
+        if (a.length > size)
+            a[size] = null;
+        return a;
+    }
+
     @Override
     public String toString() {
         StringBuilder s = new StringBuilder();
@@ -156,10 +200,19 @@ public class Array<E> {
     /*
     * Misc
     * */
+    // 保证 capacity 至少为 minCapacity。批量插入前调用可避免中途多次 resize
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > getCapacity())
+            resize(Math.max(getCapacity() * 2, minCapacity));  // 仍按2倍扩容以保证均摊 O(1)，不够的话直接扩到 minCapacity
+    }
+
+    // 将 capacity 缩减到 size，释放多余空间（在数据装载完成、之后不再增长时调用）
+    public void trimToSize() {
+        if (size < getCapacity())
+            resize(size);
+    }
+
     private void resize(int newCapacity) {
-        E[] newData = (E[]) new Object[newCapacity];
-        for(int i = 0; i < size; i++)
-            newData[i] = data[i];
-        data = newData;
+        data = Arrays.copyOf(data, newCapacity);
     }
 }
@@ -24,5 +24,17 @@ public class ArrayTest {
         for (int i = 0; i < 4; i++)
             arr.removeLast();  // 连续移除4个元素，使 size < capacity / 4，检验是否自动 resize 至 capacity / 2
         System.out.print(arr);
+
+        // 测试批量操作
+        arr.addAll(1, new Integer[]{100, 101, 102, 103}, 1, 3);  // 在索引1处插入 101, 102, 103
+        System.out.print(arr);
+        arr.removeRange(1, 3);
+        System.out.print(arr);
+        arr.ensureCapacity(20);
+        System.out.print(arr);
+        arr.trimToSize();
+        System.out.print(arr);
+        Integer[] copy = arr.toArray(new Integer[0]);
+        System.out.println(copy.length);
     }
 }
@@ -0,0 +1,152 @@
+package Array;
+
+/*
+ * - Array 的 double 特化版本，底层直接使用 double[]，避免装箱成 Double。设计与 API SEE: IntArray.java
+ * */
+
+public class DoubleArray {
+    private double[] data;
+    private int size;
+
+    /*
+     * Constructors
+     * */
+    public DoubleArray(int capacity) {
+        data = new double[capacity];
+        size = 0;
+    }
+
+    public DoubleArray() { this(10); }
+
+    public DoubleArray(double[] arr) {  // 通过普通数组生成动态数组的构造函数
+        data = new double[arr.length];
+        for (int i = 0; i < arr.length; i++)
+            data[i] = arr[i];
+        size = arr.length;
+    }
+
+    /*
+     * 增操作
+     * */
+    public void addAtIndex(int index, double e) {
+        if (index < 0 || index > size)
+            throw new IllegalArgumentException("addAtIndex failed. Require index >= 0 and index <= size");
+
+        if (size == getCapacity())
+            resize(Math.max(getCapacity() * 2, 1));  // capacity 可能为0（如通过空数组构造），此时至少扩容到1
+
+        for (int i = size - 1; i >= index; i--)
+            data[i + 1] = data[i];
+        data[index] = e;
+        size++;
+    }
+
+    public void addLast(double e) { addAtIndex(size, e); }
+
+    public void addFirst(double e) { addAtIndex(0, e); }
+
+    /*
+     * 删操作
+     * */
+    public double removeAtIndex(int index) {
+        if (index < 0 || index >= size)
+            throw new IllegalArgumentException("removeAtIndex failed. Require index >= 0 and index < size");
+
+        double removed = data[index];
+        for (int i = index + 1; i < size; i++)
+            data[i - 1] = data[i];
+        size--;  // primitive 类型不需要将 data[size - 1] 置空
+
+        if (size <= getCapacity() / 4 && getCapacity() / 2 != 0)
+            resize(getCapacity() / 2);
+
+        return removed;
+    }
+
+    public double removeLast() { return removeAtIndex(size - 1); }
+
+    public double removeFirst() { return removeAtIndex(0); }
+
+    public void removeElement(double e) {
+        int index = findIndex(e);
+        if (index != -1)
+            removeAtIndex(index);
+    }
+
+    /*
+     * 改操作
+     * */
+    public void set(int index, double e) {
+        if (index < 0 || index >= size)
+            throw new IllegalArgumentException("set failed. Require index >= 0 and index < size");
+        data[index] = e;
+    }
+
+    public void swap(int i, int j) {
+        if (i < 0 || i >= size || j < 0 || j >= size)
+            throw new IllegalArgumentException("swap failed. Index is illegal.");
+        double temp = data[i];
+        data[i] = data[j];
+        data[j] = temp;
+    }
+
+    /*
+     * 查操作
+     * */
+    public double get(int index) {
+        if (index < 0 || index >= size)
+            throw new IllegalArgumentException("get failed. Require index >= 0 and index < size");
+        return data[index];
+    }
+
+    public double getFirst() {
+        if (getSize() == 0)
+            throw new IllegalArgumentException("getFirst failed. Empty array.");
+        return get(0);
+    }
+
+    public double getLast() {
+        if (getSize() == 0)
+            throw new IllegalArgumentException("getLast failed. Empty array.");
+        return get(getSize() - 1);
+    }
+
+    public int getSize() { return size; }
+
+    public int getCapacity() { return data.length; }
+
+    public boolean isEmpty() { return size == 0; }
+
+    public int findIndex(double e) {
+        for (int i = 0; i < size; i++)
+            if (Double.compare(data[i], e) == 0)  // 与 Double.equals 语义一致（NaN 等于 NaN，0.0 不等于 -0.0）
+                return i;
+        return -1;
+    }
+
+    public boolean contains(double e) { return findIndex(e) != -1; }
+
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder();
+        s.append(String.format("Size = %d, Capacity = %d\n", size, getCapacity()));
+        s.append("[");
+        for (int i = 0; i < size; i++) {
+            s.append(data[i]);
+            if (i != size - 1)
+                s.append(", ");
+        }
+        s.append("]\n");
+        return s.toString();
+    }
+
+    /*
+     * Misc
+     * */
+    private void resize(int newCapacity) {
+        double[] newData = new double[newCapacity];
+        for (int i = 0; i < size; i++)
+            newData[i] = data[i];
+        data = newData;
+    }
+}
@@ -0,0 +1,160 @@
+package Array;
+
+/*
+ * - Array<E> 底层是 E[]（实际是 Object[]），因此存入的 int 会被自动装箱成 Integer 对象：
+ *   - 每个元素除了4字节的值，还要付出一个对象头 + 一个引用的空间，内存占用大约是 int[] 的4-5倍；
+ *   - 大量临时的 Integer 对象还会给 GC 带来压力，且数组中存的是引用，遍历时要跳转到堆上的对象，缓存不友好。
+ * - IntArray 是 Array 的 int 特化版本，底层直接使用 int[]，API 与 Array 保持一致（add/remove/get/set/swap/findIndex）。
+ *   同理还有 LongArray、DoubleArray。
+ * - 与 Array 的区别：
+ *   1. 删除元素后不需要把空出来的位置置为 null（primitive 类型没有 loitering object 的问题）；
+ *   2. findIndex 直接用 == 比较，不再调用 equals。
+ * - 复杂度与 Array 完全相同，SEE: Array.java
+ * */
+
+public class IntArray {
+    private int[] data;
+    private int size;
+
+    /*
+     * Constructors
+     * */
+    public IntArray(int capacity) {
+        data = new int[capacity];
+        size = 0;
+    }
+
+    public IntArray() { this(10); }
+
+    public IntArray(int[] arr) {  // 通过普通数组生成动态数组的构造函数
+        data = new int[arr.length];
+        for (int i = 0; i < arr.length; i++)
+            data[i] = arr[i];
+        size = arr.length;
+    }
+
+    /*
+     * 增操作
+     * */
+    public void addAtIndex(int index, int e) {
+        if (index < 0 || index > size)
+            throw new IllegalArgumentException("addAtIndex failed. Require index >= 0 and index <= size");
+
+        if (size == getCapacity())
+            resize(Math.max(getCapacity() * 2, 1));  // capacity 可能为0（如通过空数组构造），此时至少扩容到1
+
+        for (int i = size - 1; i >= index; i--)
+            data[i + 1] = data[i];
+        data[index] = e;
+        size++;
+    }
+
+    public void addLast(int e) { addAtIndex(size, e); }
+
+    public void addFirst(int e) { addAtIndex(0, e); }
+
+    /*
+     * 删操作
+     * */
+    public int removeAtIndex(int index) {
+        if (index < 0 || index >= size)
+            throw new IllegalArgumentException("removeAtIndex failed. Require index >= 0 and index < size");
+
+        int removed = data[index];
+        for (int i = index + 1; i < size; i++)
+            data[i - 1] = data[i];
+        size--;  // primitive 类型不需要将 data[size - 1] 置空
+
+        if (size <= getCapacity() / 4 && getCapacity() / 2 != 0)
+            resize(getCapacity() / 2);
+
+        return removed;
+    }
+
+    public int removeLast() { return removeAtIndex(size - 1); }
+
+    public int removeFirst() { return removeAtIndex(0); }
+
+    public void removeElement(int e) {
+        int index = findIndex(e);
+        if (index != -1)
+            removeAtIndex(index);
+    }
+
+    /*
+     * 改操作
+     * */
+    public void set(int index, int e) {
+        if (index < 0 || index >= size)
+            throw new IllegalArgumentException("set failed. Require index >= 0 and index < size");
+        data[index] = e;
+    }
+
+    public void swap(int i, int j) {
+        if (i < 0 || i >= size || j < 0 || j >= size)
+            throw new IllegalArgumentException("swap failed. Index is illegal.");
+        int temp = data[i];
+        data[i] = data[j];
+        data[j] = temp;
+    }
+
+    /*
+     * 查操作
+     * */
+    public int get(int index) {
+        if (index < 0 || index >= size)
+            throw new IllegalArgumentException("get failed. Require index >= 0 and index < size");
+        return data[index];
+    }
+
+    public int getFirst() {
+        if (getSize() == 0)
+            throw new IllegalArgumentException("getFirst failed. Empty array.");
+        return get(0);
+    }
+
+    public int getLast() {
+        if (getSize() == 0)
+            throw new IllegalArgumentException("getLast failed. Empty array.");
+        return get(getSize() - 1);
+    }
+
+    public int getSize() { return size; }
+
+    public int getCapacity() { return data.length; }
+
+    public boolean isEmpty() { return size == 0; }
+
+    public int findIndex(int e) {
+        for (int i = 0; i < size; i++)
+            if (data[i] == e)
+                return i;
+        return -1;
+    }
+
+    public boolean contains(int e) { return findIndex(e) != -1; }
+
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder();
+        s.append(String.format("Size = %d, Capacity = %d\n", size, getCapacity()));
+        s.append("[");
+        for (int i = 0; i < size; i++) {
+            s.append(data[i]);
+            if (i != size - 1)
+                s.append(", ");
+        }
+        s.append("]\n");
+        return s.toString();
+    }
+
+    /*
+     * Misc
+     * */
+    private void resize(int newCapacity) {
+        int[] newData = new int[newCapacity];
+        for (int i = 0; i < size; i++)
+            newData[i] = data[i];
+        data = newData;
+    }
+}
@@ -0,0 +1,35 @@
+package Array;
+
+public class IntArrayTest {
+    public static void main(String arg[]) {
+        IntArray arr = new IntArray(5);  // 直接存储 int，不再需要包装类
+        for (int i = 0; i < 3; i++) {
+            arr.addLast(i);
+        }
+        System.out.print(arr);
+
+        arr.addFirst(-1);
+        System.out.print(arr);
+
+        arr.set(0, 10);
+        System.out.print(arr);
+        System.out.println(arr.get(0));
+        System.out.println(arr.findIndex(1));
+        System.out.println(arr.contains(5));
+
+        arr.addLast(3);
+        arr.addLast(4);  // 此时数组会自动 resize
+        System.out.print(arr);
+
+        for (int i = 0; i < 4; i++)
+            arr.removeLast();  // 连续移除4个元素，使 size < capacity / 4，检验是否自动 resize 至 capacity / 2
+        System.out.print(arr);
+
+        DoubleArray darr = new DoubleArray(new double[]{1.5, Double.NaN, 3.0});
+        System.out.println(darr.findIndex(Double.NaN));  // 与 Array<Double> 一样能找到 NaN
+
+        LongArray larr = new LongArray(new long[0]);
+        larr.addLast(Long.MAX_VALUE);  // capacity 为0时也能正常扩容
+        System.out.print(larr);
+    }
+}
@@ -0,0 +1,152 @@
+package Array;
+
+/*
+ * - Array 的 long 特化版本，底层直接使用 long[]，避免装箱成 Long。设计与 API SEE: IntArray.java
+ * */
+
+public class LongArray {
+    private long[] data;
+    private int size;
+
+    /*
+     * Constructors
+     * */
+    public LongArray(int capacity) {
+        data = new long[capacity];
+        size = 0;
+    }
+
+    public LongArray() { this(10); }
+
+    public LongArray(long[] arr) {  // 通过普通数组生成动态数组的构造函数
+        data = new long[arr.length];
+        for (int i = 0; i < arr.length; i++)
+            data[i] = arr[i];
+        size = arr.length;
+    }
+
+    /*
+     * 增操作
+     * */
+    public void addAtIndex(int index, long e) {
+        if (index < 0 || index > size)
+            throw new IllegalArgumentException("addAtIndex failed. Require index >= 0 and index <= size");
+
+        if (size == getCapacity())
+            resize(Math.max(getCapacity() * 2, 1));  // capacity 可能为0（如通过空数组构造），此时至少扩容到1
+
+        for (int i = size - 1; i >= index; i--)
+            data[i + 1] = data[i];
+        data[index] = e;
+        size++;
+    }
+
+    public void addLast(long e) { addAtIndex(size, e); }
+
+    public void addFirst(long e) { addAtIndex(0, e); }
+
+    /*
+     * 删操作
+     * */
+    public long removeAtIndex(int index) {
+        if (index < 0 || index >= size)
+            throw new IllegalArgumentException("removeAtIndex failed. Require index >= 0 and index < size");
+
+        long removed = data[index];
+        for (int i = index + 1; i < size; i++)
+            data[i - 1] = data[i];
+        size--;  // primitive 类型不需要将 data[size - 1] 置空
+
+        if (size <= getCapacity() / 4 && getCapacity() / 2 != 0)
+            resize(getCapacity() / 2);
+
+        return removed;
+    }
+
+    public long removeLast() { return removeAtIndex(size - 1); }
+
+    public long removeFirst() { return removeAtIndex(0); }
+
+    public void removeElement(long e) {
+        int index = findIndex(e);
+        if (index != -1)
+            removeAtIndex(index);
+    }
+
+    /*
+     * 改操作
+     * */
+    public void set(int index, long e) {
+        if (index < 0 || index >= size)
+            throw new IllegalArgumentException("set failed. Require index >= 0 and index < size");
+        data[index] = e;
+    }
+
+    public void swap(int i, int j) {
+        if (i < 0 || i >= size || j < 0 || j >= size)
+            throw new IllegalArgumentException("swap failed. Index is illegal.");
+        long temp = data[i];
+        data[i] = data[j];
+        data[j] = temp;
+    }
+
+    /*
+     * 查操作
+     * */
+    public long get(int index) {
+        if (index < 0 || index >= size)
+            throw new IllegalArgumentException("get failed. Require index >= 0 and index < size");
+        return data[index];
+    }
+
+    public long getFirst() {
+        if (getSize() == 0)
+            throw new IllegalArgumentException("getFirst failed. Empty array.");
+        return get(0);
+    }
+
+    public long getLast() {
+        if (getSize() == 0)
+            throw new IllegalArgumentException("getLast failed. Empty array.");
+        return get(getSize() - 1);
+    }
+
+    public int getSize() { return size; }
+
+    public int getCapacity() { return data.length; }
+
+    public boolean isEmpty() { return size == 0; }
+
+    public int findIndex(long e) {
+        for (int i = 0; i < size; i++)
+            if (data[i] == e)
+                return i;
+        return -1;
+    }
+
+    public boolean contains(long e) { return findIndex(e) != -1; }
+
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder();
+        s.append(String.format("Size = %d, Capacity = %d\n", size, getCapacity()));
+        s.append("[");
+        for (int i = 0; i < size; i++) {
+            s.append(data[i]);
+            if (i != size - 1)
+                s.append(", ");
+        }
+        s.append("]\n");
+        return s.toString();
+    }
+
+    /*
+     * Misc
+     * */
+    private void resize(int newCapacity) {
+        long[] newData = new long[newCapacity];
+        for (int i = 0; i < size; i++)
+            newData[i] = data[i];
+        data = newData;
+    }
+}
@@ -0,0 +1,252 @@
+package HashTable;
+
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+/*
+ * - HashTable 中数组每个位置上的查找表（separate chaining 中的 "chain"），采用 Java 8 HashMap 的思路：
+ *   - 元素较少时使用链表：哈希冲突较少时链表的开销比红黑树低（不需要各种旋转，也没有额外的节点颜色、父指针等开销），而且足够快；
+ *   - 元素个数超过 treeifyThreshold 时转换成红黑树（TreeMap），使最坏情况下的复杂度从 O(n) 降到 O(logn)；
+ *   - 删除元素使个数降到 treeifyThreshold / 2 以下时再转换回链表（两个阈值不同，避免在阈值附近反复转换，即复杂度震荡）。
+ *
+ * - TreeMap 要求 key 是 Comparable 的，因此只有当该位置上所有 key 都是同一个 Comparable 类型时才会转换成树。否则（如 Student
+ *   这种没有实现 Comparable 的 key）一直保持链表形态。这样 HashTable 的 K 就真正不再需要是 Comparable 的了。
+ *   - 同一个类型的 Comparable key 之间用 compareTo 比较，要求 compareTo 与 equals 一致（Java 标准库中的类型都满足）；
+ *   - 树形态下如果来了一个不同类型的 key，则转换回链表，并且之后不再转换成树。
+ * */
+
+class Bucket<K, V> {
+    private class Node {
+        public K key;
+        public V value;
+        public Node next;
+
+        public Node(K key, V value, Node next) {
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    private final int treeifyThreshold;
+    private Node head;            // 链表形态
+    private TreeMap<K, V> tree;   // 树形态（tree != null 时 head 为 null）
+    private Class<?> keyClass;    // 所有 key 的类型，若 key 的类型不一致或不是 Comparable 则为 null
+    private boolean treeifiable;
+    private int size;
+
+    public Bucket(int treeifyThreshold) {
+        this.treeifyThreshold = treeifyThreshold;
+        head = null;
+        tree = null;
+        keyClass = null;
+        treeifiable = true;
+        size = 0;
+    }
+
+    /*
+     * 辅助方法
+     * */
+    private Node getNode(K key) {
+        for (Node curr = head; curr != null; curr = curr.next)
+            if (curr.key.equals(key))
+                return curr;
+        return null;
+    }
+
+    private boolean isTree() { return tree != null; }
+
+    private boolean isCompatible(K key) { return key.getClass() == keyClass; }  // 树中只有 keyClass 类型的 key
+
+    private void checkKeyClass(K key) {  // 每添加一个新 key 时检查是否还能转换成树
+        if (!treeifiable)
+            return;
+        if (keyClass == null && size == 0 && key instanceof Comparable)
+            keyClass = key.getClass();
+        else if (!isCompatible(key)) {
+            treeifiable = false;
+            keyClass = null;
+        }
+    }
+
+    private void treeify() {
+        tree = new TreeMap<K, V>();
+        for (Node curr = head; curr != null; curr = curr.next)
+            tree.put(curr.key, curr.value);
+        head = null;
+    }
+
+    private void untreeify() {
+        head = null;
+        for (java.util.Map.Entry<K, V> entry : tree.entrySet())
+            head = new Node(entry.getKey(), entry.getValue(), head);
+        tree = null;
+    }
+
+    /*
+     * 增操作
+     * */
+    public boolean put(K key, V value) {  // 返回 key 是否是新添加的（而不是更新）
+        if (isTree()) {
+            if (isCompatible(key)) {
+                int oldSize = tree.size();
+                tree.put(key, value);
+                if (tree.size() == oldSize)
+                    return false;
+                size++;
+                return true;
+            }
+            untreeify();  // 不同类型的 key 无法放进 TreeMap，退回链表形态
+        }
+
+        Node node = getNode(key);
+        if (node != null) {
+            node.value = value;
+            return false;
+        }
+
+        link(null, key, value);
+        return true;
+    }
+
+    private void link(Node tail, K key, V value) {  // 添加一个已确定不存在的 key：tail 为 null 时插入链表头，否则接在 tail 之后
+        checkKeyClass(key);
+        if (tail == null)
+            head = new Node(key, value, head);
+        else
+            tail.next = new Node(key, value, null);
+        size++;
+
+        if (size > treeifyThreshold && treeifiable)
+            treeify();
+    }
+
+    /*
+     * 删操作
+     * */
+    public V remove(K key) {
+        if (isTree()) {
+            if (!isCompatible(key))
+                return null;
+            V ret = tree.remove(key);
+            size = tree.size();
+            if (size <= treeifyThreshold / 2)
+                untreeify();
+            return ret;
+        }
+
+        Node dummyHead = new Node(null, null, head);
+        for (Node prev = dummyHead; prev.next != null; prev = prev.next) {
+            if (prev.next.key.equals(key)) {
+                Node delNode = prev.next;
+                prev.next = delNode.next;
+                delNode.next = null;
+                head = dummyHead.next;
+                size--;
+                if (size == 0 && treeifiable)
+                    keyClass = null;  // 清空后重新开始记录 key 的类型
+                return delNode.value;
+            }
+        }
+        return null;
+    }
+
+    /*
+     * 改操作
+     * */
+    // 根据旧值（不存在则为 null）算出新值：新值为 null 则删除，否则更新或添加。返回新值
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        if (isTree() && isCompatible(key)) {
+            V newValue = tree.compute(key, remappingFunction);
+            size = tree.size();
+            if (size <= treeifyThreshold / 2)
+                untreeify();
+            return newValue;
+        }
+
+        if (isTree()) {  // 树形态下不同类型的 key 一定不存在
+            V newValue = remappingFunction.apply(key, null);
+            if (newValue != null) {
+                untreeify();  // 不同类型的 key 无法放进 TreeMap，退回链表形态
+                link(null, key, newValue);
+            }
+            return newValue;
+        }
+
+        Node dummyHead = new Node(null, null, head);
+        Node prev = dummyHead;
+        for (; prev.next != null; prev = prev.next) {
+            Node curr = prev.next;
+            if (curr.key.equals(key)) {
+                V newValue = remappingFunction.apply(key, curr.value);
+                if (newValue == null) {
+                    prev.next = curr.next;
+                    curr.next = null;
+                    head = dummyHead.next;
+                    size--;
+                    if (size == 0 && treeifiable)
+                        keyClass = null;
+                } else
+                    curr.value = newValue;
+                return newValue;
+            }
+        }
+
+        V newValue = remappingFunction.apply(key, null);  // key 不存在，此时 prev 是链表的最后一个节点（或 dummyHead）
+        if (newValue != null)
+            link(prev == dummyHead ? null : prev, key, newValue);  // 直接接在链表末尾，不再遍历第二遍
+        return newValue;
+    }
+
+    /*
+     * 查操作
+     * */
+    public boolean containsKey(K key) {
+        if (isTree())
+            return isCompatible(key) && tree.containsKey(key);
+        return getNode(key) != null;
+    }
+
+    public V get(K key) {
+        if (isTree())
+            return isCompatible(key) ? tree.get(key) : null;
+        Node node = getNode(key);
+        return node == null ? null : node.value;
+    }
+
+    public int getSize() { return size; }
+
+    public boolean isEmpty() { return size == 0; }
+
+    public boolean isTreeified() { return isTree(); }
+
+    public Iterator<java.util.Map.Entry<K, V>> iterator() {
+        if (isTree())
+            return tree.entrySet().iterator();
+        return new Iterator<java.util.Map.Entry<K, V>>() {
+            private Node curr = head;
+
+            public boolean hasNext() { return curr != null; }
+
+            public java.util.Map.Entry<K, V> next() {
+                if (curr == null)
+                    throw new NoSuchElementException();
+                java.util.Map.Entry<K, V> entry = new AbstractMap.SimpleImmutableEntry<K, V>(curr.key, curr.value);
+                curr = curr.next;
+                return entry;
+            }
+        };
+    }
+
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        if (isTree())
+            tree.forEach(action);
+        else
+            for (Node curr = head; curr != null; curr = curr.next)
+                action.accept(curr.key, curr.value);
+    }
+}
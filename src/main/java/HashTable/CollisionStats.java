@@ -0,0 +1,42 @@
+package HashTable;
+
+/*
+ * HashTable 中哈希冲突情况的快照，用于观察哈希函数的分布是否均匀、是否受到了哈希碰撞攻击。
+ * */
+
+public class CollisionStats {
+    public final int capacity;         // 数组大小 M
+    public final int size;             // 元素个数 N
+    public final int usedBuckets;      // 至少有一个元素的位置个数
+    public final int maxBucketSize;    // 元素最多的位置上的元素个数（最坏情况下的查找代价）
+    public final int treeifiedBuckets; // 已经转换成红黑树的位置个数
+    public final int[] histogram;      // histogram[i] 为元素个数是 i 的位置个数，最后一格统计所有 >= histogram.length - 1 的位置
+
+    public CollisionStats(int capacity, int size, int usedBuckets, int maxBucketSize, int treeifiedBuckets, int[] histogram) {
+        this.capacity = capacity;
+        this.size = size;
+        this.usedBuckets = usedBuckets;
+        this.maxBucketSize = maxBucketSize;
+        this.treeifiedBuckets = treeifiedBuckets;
+        this.histogram = histogram;
+    }
+
+    public double getAverageBucketSize() {  // 非空位置上的平均元素个数（N / M 只是理想情况下的平均值）
+        return usedBuckets == 0 ? 0 : (double) size / usedBuckets;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder();
+        s.append(String.format("Capacity = %d, Size = %d, Used buckets = %d, Avg bucket size = %.2f, Max bucket size = %d, Treeified buckets = %d\n",
+                capacity, size, usedBuckets, getAverageBucketSize(), maxBucketSize, treeifiedBuckets));
+        s.append("[");
+        for (int i = 0; i < histogram.length; i++) {
+            s.append(i == histogram.length - 1 ? ">=" + i : i).append(": ").append(histogram[i]);
+            if (i != histogram.length - 1)
+                s.append(", ");
+        }
+        s.append("]\n");
+        return s.toString();
+    }
+}
@@ -0,0 +1,153 @@
+package HashTable;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+ * - HashTable 不是线程安全的，多线程使用时最简单的办法是用一把全局锁把所有操作包起来（相当于 Java 中的 Hashtable 或
+ *   Collections.synchronizedMap），但这样所有线程都串行在这一把锁上，核数再多也没用。
+ *
+ * - 分段锁（lock striping，Java 7 中 ConcurrentHashMap 的做法）：
+ *   - 把整个哈希表拆成 S 个相互独立的段（segment），每个段是一个独立的 HashTable，由自己的一把锁保护。
+ *   - 一个 key 先通过哈希值的高位找到所属的段，再在段内由 HashTable 自己的哈希函数（用的是低位取模）找到具体位置。
+ *     这样不同段上的操作可以完全并行，只有落在同一个段上的写操作才会互相等待。
+ *   - 每个段使用读写锁：读操作（get、contains）之间不互斥，因此在读多写少的场景下吞吐量可以随核数接近线性地增长。
+ *
+ * - 并发扩容：每个段各自维护自己的 capacity 素数表，各自独立地扩容/缩容。一个段在 resize 时只持有该段的写锁，其它段的读写
+ *   不受影响。由于每个段只存了约 1/S 的元素，单次 resize 的停顿也只有整表 resize 的 1/S。
+ *   注：段内不能使用渐进式 rehash（HashTable(true)），因为渐进式 rehash 会在 get 中搬迁元素，读操作也就变成了写操作，
+ *   只能持有写锁，读写锁就失去了意义。
+ *
+ * - size 用 LongAdder 统计：它内部把计数分散到多个 cell 上，避免所有线程竞争同一个 AtomicInteger 所在的缓存行。
+ * */
+
+public class ConcurrentHashTable<K, V> {
+    private static final int defaultConcurrencyLevel = 64;
+
+    private final HashTable<K, V>[] segments;
+    private final ReentrantReadWriteLock[] locks;
+    private final int segmentShift;  // 用哈希值的高 log2(S) 位选择段
+    private final HashStrategy<? super K> hashStrategy;  // 选择段时使用的哈希策略（带随机种子，SEE: HashStrategy）
+    private final LongAdder size = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public ConcurrentHashTable(int concurrencyLevel, HashStrategy<? super K> hashStrategy) {
+        if (concurrencyLevel <= 0)
+            throw new IllegalArgumentException("concurrencyLevel must be positive");
+        if (hashStrategy == null)
+            throw new IllegalArgumentException("hashStrategy cannot be null");
+        this.hashStrategy = hashStrategy;
+
+        int S = 1, bits = 0;
+        while (S < concurrencyLevel) {  // 段数取 >= concurrencyLevel 的最小的2的幂
+            S <<= 1;
+            bits++;
+        }
+        segmentShift = 32 - bits;
+
+        segments = (HashTable<K, V>[]) new HashTable<?, ?>[S];  // 不能直接创建泛型类的数组
+        locks = new ReentrantReadWriteLock[S];
+        for (int i = 0; i < S; i++) {
+            segments[i] = new HashTable<K, V>();
+            locks[i] = new ReentrantReadWriteLock();
+        }
+    }
+
+    public ConcurrentHashTable(int concurrencyLevel) { this(concurrencyLevel, HashStrategy.murmur3()); }
+
+    public ConcurrentHashTable() { this(defaultConcurrencyLevel); }
+
+    /*
+     * 辅助方法
+     * */
+    // 段内的 HashTable 用哈希值对素数取模（相当于主要用低位），因此这里要用高位选段，否则同一个段内的 key 的哈希值会有相同的
+    // 低位，在段内分布不均。先乘以黄金分割常数把所有位混合到高位，再取最高的几位。
+    // 哈希值来自带种子的 hashStrategy 而不是 key.hashCode()：否则 hashCode 相同的 key（如 "Aa" 和 "BB"）一定落在同一个段上，
+    // 攻击者构造大量这样的 key 就能让所有线程排队等同一把锁。段内的 HashTable 各自使用另外的随机种子。
+    private int segmentFor(K key) {
+        if (segments.length == 1)
+            return 0;
+        int h = hashStrategy.hash(key) * 0x9E3779B9;
+        return h >>> segmentShift;
+    }
+
+    /*
+     * 增操作
+     * */
+    public void add(K key, V value) {
+        int i = segmentFor(key);
+        ReentrantReadWriteLock.WriteLock lock = locks[i].writeLock();
+        lock.lock();
+        try {
+            HashTable<K, V> segment = segments[i];
+            int oldSize = segment.getSize();
+            segment.add(key, value);
+            if (segment.getSize() != oldSize)
+                size.increment();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /*
+     * 删操作
+     * */
+    public V remove(K key) {
+        int i = segmentFor(key);
+        ReentrantReadWriteLock.WriteLock lock = locks[i].writeLock();
+        lock.lock();
+        try {
+            HashTable<K, V> segment = segments[i];
+            int oldSize = segment.getSize();
+            V ret = segment.remove(key);
+            if (segment.getSize() != oldSize)
+                size.decrement();
+            return ret;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /*
+     * 改操作
+     * */
+    public void set(K key, V value) {
+        int i = segmentFor(key);
+        ReentrantReadWriteLock.WriteLock lock = locks[i].writeLock();
+        lock.lock();
+        try {
+            segments[i].set(key, value);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /*
+     * 查操作
+     * */
+    public int getSize() { return size.intValue(); }  // 并发修改时只是一个近似值
+
+    public boolean contains(K key) {
+        int i = segmentFor(key);
+        ReentrantReadWriteLock.ReadLock lock = locks[i].readLock();
+        lock.lock();
+        try {
+            return segments[i].contains(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public V get(K key) {
+        int i = segmentFor(key);
+        ReentrantReadWriteLock.ReadLock lock = locks[i].readLock();
+        lock.lock();
+        try {
+            return segments[i].get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isEmpty() { return getSize() == 0; }
+}
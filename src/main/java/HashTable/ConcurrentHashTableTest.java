@@ -0,0 +1,67 @@
+package HashTable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+public class ConcurrentHashTableTest {
+    private static double runThreads(int nThreads, IntConsumer worker) throws InterruptedException {  // worker 的参数为线程编号
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int t = 0; t < nThreads; t++) {
+            final int id = t;
+            threads.add(new Thread(() -> worker.accept(id)));
+        }
+
+        long startTime = System.nanoTime();
+        for (Thread thread : threads)
+            thread.start();
+        for (Thread thread : threads)
+            thread.join();
+        long endTime = System.nanoTime();
+        return (endTime - startTime) / 1000000000.0;
+    }
+
+    private static double testTable(ConcurrentHashTable<Integer, Integer> ht, int nThreads, int opCount) throws InterruptedException {
+        return runThreads(nThreads, id -> {
+            for (int i = 0; i < opCount; i++) {
+                int key = id * opCount + i;
+                ht.add(key, i);
+                for (int j = 0; j < 9; j++)  // 读多写少：每写一次读9次
+                    ht.get(key - j);
+            }
+        });
+    }
+
+    private static double testTable(HashTable<Integer, Integer> ht, int nThreads, int opCount) throws InterruptedException {
+        return runThreads(nThreads, id -> {
+            for (int i = 0; i < opCount; i++) {
+                int key = id * opCount + i;
+                synchronized (ht) {  // 对照组：用一把全局锁保护普通的 HashTable
+                    ht.add(key, i);
+                }
+                for (int j = 0; j < 9; j++)
+                    synchronized (ht) {
+                        ht.get(key - j);
+                    }
+            }
+        });
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int nThreads = Runtime.getRuntime().availableProcessors();
+        int opCount = 200000;
+
+        ConcurrentHashTable<Integer, Integer> concurrentTable = new ConcurrentHashTable<Integer, Integer>();
+        double t1 = testTable(concurrentTable, nThreads, opCount);
+        System.out.println("ConcurrentHashTable: " + t1 + " s, size: " + concurrentTable.getSize());
+
+        HashTable<Integer, Integer> table = new HashTable<Integer, Integer>();
+        double t2 = testTable(table, nThreads, opCount);
+        System.out.println("synchronized HashTable: " + t2 + " s, size: " + table.getSize());
+
+        boolean ok = concurrentTable.getSize() == nThreads * opCount;
+        for (int key = 0; key < nThreads * opCount; key++)
+            ok &= concurrentTable.get(key) == key % opCount;
+        System.out.println("correct: " + ok);
+    }
+}
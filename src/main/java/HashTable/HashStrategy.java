@@ -0,0 +1,72 @@
+package HashTable;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+ * - 哈希策略：HashTable 用它把 key 转换成整型，再对 M 取模得到索引。
+ *
+ * - 为什么不直接用 key.hashCode()：
+ *   1. 很多 hashCode 的分布并不均匀（如 Student 中 31 进制的组合哈希，只要各个字段的组合满足一定关系就会冲突），
+ *      低位和高位的信息没有被充分混合；
+ *   2. hashCode 是公开、确定的算法，攻击者可以预先构造出大量哈希值相同的 key（哈希碰撞攻击，hash flooding），
+ *      使它们全部挤到同一个位置上，让哈希表退化成链表或红黑树。
+ *
+ * - 解决方法：
+ *   - 混合（mixing）：用 MurmurHash3 的 finalizer（fmix32）对哈希值做一次雪崩处理，输入的每一位都会影响输出的每一位，解决问题1；
+ *   - 随机种子（seed）：每个哈希表在创建时随机生成一个种子参与计算。攻击者不知道种子，就无法预先构造出落在同一位置的 key，
+ *     解决问题2。
+ *   - 但如果两个 key 的 hashCode 本身就相同（如 "Aa" 和 "BB"），对 hashCode 再怎么混合结果也相同。因此对于最常见的 String
+ *     类型的 key，murmur3 策略直接对字符串的内容计算带种子的 MurmurHash3，不经过 String.hashCode()。其它类型的 key 仍然依赖
+ *     其 hashCode 的质量。
+ * */
+
+public interface HashStrategy<K> {
+    int hash(K key);
+
+    // 直接使用 key.hashCode()（HashTable 原来的做法）
+    static <K> HashStrategy<K> identity() { return key -> key.hashCode(); }
+
+    // 使用随机种子的 MurmurHash3
+    static <K> HashStrategy<K> murmur3() { return murmur3(ThreadLocalRandom.current().nextInt()); }
+
+    static <K> HashStrategy<K> murmur3(int seed) {
+        return key -> {
+            if (key instanceof String)
+                return murmur3(seed, (String) key);
+            return fmix32(key.hashCode() ^ seed);
+        };
+    }
+
+    // MurmurHash3 的 finalizer：使 h 的每一位都能影响结果的每一位（雪崩效应）
+    static int fmix32(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    // MurmurHash3_x86_32：每次把两个 char 拼成一个32位的块进行混合
+    static int murmur3(int seed, String s) {
+        int h = seed;
+        int len = s.length();
+        int i = 0;
+        for (; i + 1 < len; i += 2) {
+            int k = s.charAt(i) | (s.charAt(i + 1) << 16);
+            h ^= mixK(k);
+            h = Integer.rotateLeft(h, 13);
+            h = h * 5 + 0xe6546b64;
+        }
+        if (i < len)  // 剩下的一个 char
+            h ^= mixK(s.charAt(i));
+        return fmix32(h ^ (len * 2));  // 长度以字节计
+    }
+
+    static int mixK(int k) {
+        k *= 0xcc9e2d51;
+        k = Integer.rotateLeft(k, 15);
+        k *= 0x1b873593;
+        return k;
+    }
+}
@@ -1,6 +1,12 @@
 package HashTable;
 
-import java.util.TreeMap;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 
 /*
  * - 什么是哈希表：
@@ -55,9 +61,11 @@ import java.util.TreeMap;
  *     - 在 Java8 之前，HashMap 的实现中每个位置对应的就是一个链表；
  *     - 从 Java8 开始，每个位置对应的先是一个链表，当哈希冲突到达一定程度时，会自动将每个位置上的链表转换成红黑树（即 TreeMap）。
  *       这是因为在哈希冲突较少时（比如3以内）链表的开销比红黑树低（不需要各种旋转），而且足够快。
- *   - 这里我们实现的 hashTable 只采用 TreeMap 以保持简单。
+ *   - 这里我们实现的 hashTable 也采用 Java8 的做法：每个位置上先是一个链表，冲突超过 treeifyThreshold 时再转换成 TreeMap，
+ *     SEE: Bucket.java。另外每个位置上的 Bucket 都是在第一次往该位置添加元素时才创建的（lazy），而不是在构造函数和 resize 中
+ *     为每个位置都预先创建，这样空着的位置不占用额外空间，resize 时也不需要为 M 个位置逐一 new 对象。
  *   - Java 标准库中哈希表的底层处理哈希冲突的方式也是 Separate Chaining。但除此之外，还有 Open Addressing、Rehashing、
- *     Coalesced Hashing 等其他方法来处理哈希冲突。
+ *     Coalesced Hashing 等其他方法来处理哈希冲突。其中 Open Addressing 的实现 SEE: OpenAddressingHashTable.java
  *
  * - 哈希表的复杂度分析：
  *   若给哈希表开辟 M 大小的空间，存入 N 个元素，则平均每个地址上有 N/M 个元素（哈希冲突）：
@@ -88,6 +96,23 @@ import java.util.TreeMap;
  *   - 关于扩容倍数：之前在讲数组动态扩容时，是简单的把容量乘以2，而哈希表的扩容不太一样。因为我们希望哈希表的容量 M 是一个素数，从而
  *     使哈希值分布地更均匀，因此直接扩容到 2M 会破坏这一点。更好的做法是建立一个素数数组，每次扩容的时候从该素数数组中取出下一个素数
  *     作为新的数组容量。
+ *   - 渐进式 rehash（incremental rehashing，Redis 中 dict 的做法）：
+ *     - 上面的 resize 虽然均摊下来是 O(1)，但触发 resize 的那一次 add/remove 本身是 O(N) 的。当 N 很大时，这一次操作会造成
+ *       明显的卡顿（延迟尖刺），对延迟敏感的场景不可接受。
+ *     - 解决办法是不一次性搬完：resize 时只开辟新数组，新旧两个数组同时存在，用 rehashIndex 记录旧数组搬到了哪个位置。之后每次
+ *       add/remove/set/get/contains 都顺便搬 rehashSteps 个位置上的元素，直到旧数组全部搬完再丢弃旧数组。这样就把 O(N) 的搬迁
+ *       工作真正地分摊到了后续的每一次操作上，每次操作的最坏复杂度也是 O(1) 级别的。
+ *     - rehash 期间，一个 key 只可能存在于一个位置：若它在旧数组中的位置 >= rehashIndex（还没搬），则在旧数组里；否则在新数组里。
+ *       新添加的 key 也遵循这个规则，因此不会出现同一个 key 在新旧数组中各有一份的情况。
+ *     - 每次操作至少搬1个位置，而从一次 resize 到下一次 resize 之间至少会有旧数组长度那么多次的 add 或 remove，因此每次搬2个位置
+ *       就能保证在下一次 resize 之前搬完（保险起见，如果下一次 resize 时还没搬完，就先把剩下的一次性搬完）。
+ *     - 通过 HashTable(true) 开启，默认仍然是一次性 resize。
+ *
+ * - 哈希函数的选择：默认使用带随机种子的 MurmurHash3（HashStrategy.murmur3()），而不是直接用 key.hashCode() 取模，
+ *   以使哈希值分布更均匀，并防御哈希碰撞攻击，SEE: HashStrategy.java。可以通过 getCollisionStats() 查看各个位置上的冲突情况。
+ *
+ * - 遍历：按数组位置从前往后依次遍历每个 Bucket。spliterator 按数组位置的区间拆分（[lo, hi) 拆成 [lo, mid) 和 [mid, hi)），
+ *   因此并行流可以把整个表均匀地分给多个线程遍历。开始遍历前会先把未完成的渐进式 rehash 做完，遍历期间不能修改哈希表。
  *
  *  - 哈希表与平衡树的比较：
  *    1. 哈希表的复杂度比平衡树低：哈希表为 O(1)；平衡树为 O(logn)
@@ -97,11 +122,12 @@ import java.util.TreeMap;
  *      1. 有序集合、有序映射：底层是平衡树（在 java 中对应的是 TreeSet, TreeMap）
  *      2. 无序集合、无序映射：底层是哈希表（在 java 中对应的是 HashSet, HashMap）
  *
- * - 实现中的一个 bug：
+ * - 实现中的一个 bug（已修复）：
  *   HashTable<K, V> 中的 K 不要求是 Comparable 的，但 TreeMap<K, V> 中的 K 却要求，因此产生了冲突，这是个 bug。
+ *   现在每个位置上默认是链表，只有当 key 是 Comparable 的时候才会转换成 TreeMap，因此 K 不再需要是 Comparable 的。
  * */
 
-public class HashTable<K, V> {  // K 不再需要实现 Comparable，因为比较的方式变成了比哈希值，因此只要实现 hashCode 方法即可，而 hashCode 方法是定义在 Object 上的，所有变量都有。
+public class HashTable<K, V> implements Iterable<java.util.Map.Entry<K, V>> {  // K 不再需要实现 Comparable，因为比较的方式变成了比哈希值，因此只要实现 hashCode 方法即可，而 hashCode 方法是定义在 Object 上的，所有变量都有。
     private static final int upperTol = 10;  // 数组中每个位置平均最多存储10个元素，>= 10 的话就要扩容
     private static final int lowerTol = 2;   // <= 2 的话就要缩容
     private final int[] capacity = { 53, 97, 193, 389, 769, 1543, 3079, 6151, 12289, 24593, 49157, 98317,
@@ -109,58 +135,144 @@ public class HashTable<K, V> {  // K 不再需要实现 Comparable，因为比
             201326611, 402653189, 805306457, 1610612741};
     private int capacityIndex = 0;   // 数组的初始容量索引
 
-    private TreeMap<K, V>[] hashTable;  // 这里实现的哈希表实际上是一个 TreeMap 数组（使用了基于 TreeMap 的 separate chaining 解决哈希冲突）
+    private static final int defaultTreeifyThreshold = 16;  // 要明显大于 upperTol，否则在平均负载下大部分位置都会被转换成树（Java8 的 HashMap 负载率是 0.75，所以阈值取8就够了）
+    private final int treeifyThreshold;
+    private final HashStrategy<? super K> hashStrategy;
+
+    private Bucket<K, V>[] hashTable;  // 这里实现的哈希表实际上是一个 Bucket 数组（使用了基于链表/TreeMap 的 separate chaining 解决哈希冲突），未使用的位置为 null
     private int M;     // 开辟的数组大小（对哈希表的性能有直接影响）
     private int size;  // 元素个数，即 n
 
-    public HashTable() {
+    private static final int rehashSteps = 2;  // 渐进式 rehash 时每次操作搬迁的位置数
+    private final boolean incrementalResize;
+    private Bucket<K, V>[] oldHashTable;       // 渐进式 rehash 期间的旧数组，不在 rehash 时为 null
+    private int oldM;
+    private int rehashIndex;                   // 旧数组中 [0, rehashIndex) 的位置已经搬完
+
+    public HashTable(boolean incrementalResize, int treeifyThreshold, HashStrategy<? super K> hashStrategy) {
+        if (treeifyThreshold < 2)
+            throw new IllegalArgumentException("treeifyThreshold must be >= 2");
+        if (hashStrategy == null)
+            throw new IllegalArgumentException("hashStrategy cannot be null");
+        this.incrementalResize = incrementalResize;
+        this.treeifyThreshold = treeifyThreshold;
+        this.hashStrategy = hashStrategy;
         this.M = capacity[capacityIndex];
         size = 0;
-        hashTable = new TreeMap[M];
-        for (int i = 0; i < M; i++)
-            hashTable[i] = new TreeMap<K, V>();
+        hashTable = new Bucket[M];  // 每个位置上的 Bucket 在第一次使用时才创建
     }
 
+    public HashTable(boolean incrementalResize, int treeifyThreshold) {
+        this(incrementalResize, treeifyThreshold, HashStrategy.murmur3());
+    }
+
+    public HashTable(boolean incrementalResize) { this(incrementalResize, defaultTreeifyThreshold); }
+
+    public HashTable(HashStrategy<? super K> hashStrategy) { this(false, defaultTreeifyThreshold, hashStrategy); }
+
+    public HashTable() { this(false); }
+
     /*
     * 辅助方法
     * */
     private void resize(int newM) {
-        // 开辟新数组的空间
-        TreeMap<K, V>[] newHashTable = new TreeMap[newM];
+        if (incrementalResize) {
+            resizeIncrementally(newM);
+            return;
+        }
 
-        // 初始化新数组
-        for (int i = 0; i < newM; i++)
-            newHashTable[i] = new TreeMap<>();
+        // 开辟新数组的空间（其中的 Bucket 在搬迁时才按需创建）
+        Bucket<K, V>[] oldHashTable = this.hashTable;
+        this.hashTable = new Bucket[newM];
 
-        // 将旧 hashTable 中的每一颗 TreeMap 上的每一个键值对拿出来，然后重新 hash 并放入新 hashTable 里
+        // 将旧 hashTable 中的每一个 Bucket 上的每一个键值对拿出来，然后重新 hash 并放入新 hashTable 里
         int oldM = this.M;
         this.M = newM;  // 因为下面用到 hash 方法，而 hash 方法内部用到的 M 应该是 newM，因此这里要更新才行
-        for (int i = 0; i < oldM; i++) {  // 而这行的 M 又需要的是旧的 M，因此要在上面保存一下就的 M 给这里用
-            TreeMap<K, V> map = hashTable[i];
-            for (K key : map.keySet())
-                newHashTable[hash(key)].put(key, map.get(key));
+        for (int i = 0; i < oldM; i++)  // 而这行的 M 又需要的是旧的 M，因此要在上面保存一下就的 M 给这里用
+            moveBucket(oldHashTable[i]);
+    }
+
+    private void moveBucket(Bucket<K, V> bucket) {  // 将一个旧 Bucket 中的所有键值对重新 hash 到新的 hashTable 中
+        if (bucket != null)
+            bucket.forEach((key, value) -> getOrCreateBucket(hashTable, hash(key)).put(key, value));
+    }
+
+    private Bucket<K, V> getOrCreateBucket(Bucket<K, V>[] table, int index) {
+        if (table[index] == null)
+            table[index] = new Bucket<K, V>(treeifyThreshold);
+        return table[index];
+    }
+
+    private void resizeIncrementally(int newM) {
+        finishRehash();  // 上一次 rehash 还没完成（正常情况下不会发生），先把它做完
+
+        oldHashTable = hashTable;
+        oldM = M;
+        rehashIndex = 0;
+
+        hashTable = new Bucket[newM];
+        M = newM;
+    }
+
+    private boolean isRehashing() { return oldHashTable != null; }
+
+    private void finishRehash() {
+        while (isRehashing())
+            rehashStep();
+    }
+
+    // 将旧数组中 rehashIndex 位置上的所有元素搬到新数组中，共搬 rehashSteps 个位置
+    private void rehashStep() {
+        for (int n = 0; n < rehashSteps && rehashIndex < oldM; n++, rehashIndex++) {
+            moveBucket(oldHashTable[rehashIndex]);
+            oldHashTable[rehashIndex] = null;  // 尽早释放，让 GC 可以回收
+        }
+        if (rehashIndex == oldM)  // 全部搬完，丢弃旧数组
+            oldHashTable = null;
+    }
+
+    // 返回 key 所在（或应该放入）的 Bucket，若该位置上还没有 Bucket 且 create 为 false 则返回 null。
+    // 每次调用都会顺便推进一步渐进式 rehash
+    private Bucket<K, V> getBucket(K key, boolean create) {
+        int h = hashStrategy.hash(key) & 0x7fffffff;
+        Bucket<K, V>[] table = tableFor(h);
+        int index = h % table.length;
+        return create ? getOrCreateBucket(table, index) : table[index];
+    }
+
+    // 返回哈希值为 h（已消除符号）的 key 所在的数组：渐进式 rehash 时还没被搬走的位置在旧数组中，否则在新数组中
+    private Bucket<K, V>[] tableFor(int h) {
+        if (isRehashing()) {
+            rehashStep();
+            if (isRehashing() && h % oldM >= rehashIndex)  // 该位置在旧数组中还没被搬走
+                return oldHashTable;
         }
+        return hashTable;
+    }
 
-        // 更新
-        this.hashTable = newHashTable;
+    private void releaseBucket(K key, Bucket<K, V> bucket) {  // 删除已经变空的 Bucket，不在数组中留下空的 Bucket
+        if (hashTable[hash(key)] == bucket)
+            hashTable[hash(key)] = null;
+        else if (isRehashing() && oldHashTable[hash(key, oldM)] == bucket)
+            oldHashTable[hash(key, oldM)] = null;
     }
 
     // 哈希函数：将给定的 key 转化成数组索引（即哈希值）
-    // 1. 调用 key 上的 hashCode 方法，将可能为任意类型的 key 转化为整型
+    // 1. 通过 hashStrategy 将可能为任意类型的 key 转化为整型（默认是对 hashCode 或字符串内容做带种子的混合）
     // 2. 将得到的整型通过位与操作消除符号（相当于取绝对值），再模上 M，最终得到哈希值
-    private int hash(K key) {
-        return (key.hashCode() & 0x7ffffff) % M;
+    //    注意是 0x7fffffff（31个1），之前的 0x7ffffff 少写了一个 f，会把第27位及以上的位全部丢掉
+    private int hash(K key) { return hash(key, M); }
+
+    private int hash(K key, int M) {
+        return (hashStrategy.hash(key) & 0x7fffffff) % M;
     }
 
     /*
     * 增操作
     * */
     public void add(K key, V value) {
-        TreeMap<K, V> map = hashTable[hash(key)];
-        if (map.containsKey(key))  // 如果已经存在，则做更新操作（相当于 set）
-            map.put(key, value);
-        else {  // 不存在则添加
-            map.put(key, value);
+        Bucket<K, V> bucket = getBucket(key, true);
+        if (bucket.put(key, value)) {  // 不存在则添加；如果已经存在，则 put 做的是更新操作（相当于 set）
             size++;
 
             if (size >= upperTol * M && capacityIndex + 1 < capacity.length)  // 小技巧，相当于 if ((float) size / M >= upperTol)。因为2个 int 相除会丢掉小数位，想保留的话就要转成 float。
@@ -172,11 +284,13 @@ public class HashTable<K, V> {  // K 不再需要实现 Comparable，因为比
      * 删操作
      * */
     public V remove(K key) {
-        TreeMap<K, V> map = hashTable[hash(key)];
+        Bucket<K, V> bucket = getBucket(key, false);
         V ret = null;
-        if (map.containsKey(key)) {
-            ret = map.remove(key);
+        if (bucket != null && bucket.containsKey(key)) {
+            ret = bucket.remove(key);
             size--;
+            if (bucket.isEmpty())  // 与 compute 一样，不在数组中留下空的 Bucket
+                releaseBucket(key, bucket);
 
             if (size <= lowerTol * M && capacityIndex - 1 >= 0)  // 注意除法分母不能为零，这里我们让它不小于 initCapacity
                 resize(capacity[--capacityIndex]);  // 缩容
@@ -188,10 +302,44 @@ public class HashTable<K, V> {  // K 不再需要实现 Comparable，因为比
      * 改操作
      * */
     public void set(K key, V value) {
-        TreeMap<K, V> map = hashTable[hash(key)];
-        if (!map.containsKey(key))
+        Bucket<K, V> bucket = getBucket(key, false);
+        if (bucket == null || !bucket.containsKey(key))
             throw new IllegalArgumentException("set failed. key doesn't exist in the hashtable");
-        map.put(key, value);
+        bucket.put(key, value);
+    }
+
+    // 根据旧值（不存在则为 null）算出新值：新值为 null 则删除，否则更新或添加。只查找一次，返回新值
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        int h = hashStrategy.hash(key) & 0x7fffffff;
+        Bucket<K, V>[] table = tableFor(h);
+        int index = h % table.length;
+        Bucket<K, V> bucket = table[index];
+        if (bucket == null) {  // 该位置上还没有 Bucket，key 一定不存在。只有新值不为 null 时才在同一个位置上创建 Bucket
+            V newValue = remappingFunction.apply(key, null);
+            if (newValue != null) {
+                getOrCreateBucket(table, index).put(key, newValue);
+                size++;
+                if (size >= upperTol * M && capacityIndex + 1 < capacity.length)
+                    resize(capacity[++capacityIndex]);
+            }
+            return newValue;
+        }
+
+        int oldBucketSize = bucket.getSize();
+        V newValue = bucket.compute(key, remappingFunction);
+
+        if (bucket.getSize() > oldBucketSize) {  // 添加了新元素
+            size++;
+            if (size >= upperTol * M && capacityIndex + 1 < capacity.length)
+                resize(capacity[++capacityIndex]);
+        } else if (bucket.getSize() < oldBucketSize) {  // 删除了元素
+            size--;
+            if (bucket.isEmpty())
+                releaseBucket(key, bucket);
+            if (size <= lowerTol * M && capacityIndex - 1 >= 0)
+                resize(capacity[--capacityIndex]);
+        }
+        return newValue;
     }
 
     /*
@@ -200,14 +348,130 @@ public class HashTable<K, V> {  // K 不再需要实现 Comparable，因为比
     public int getSize() { return size; }
 
     public boolean contains(K key) {
-        TreeMap<K, V> map = hashTable[hash(key)];
-        return map.containsKey(key);
+        Bucket<K, V> bucket = getBucket(key, false);
+        return bucket != null && bucket.containsKey(key);
     }
 
     public V get(K key) {
-        TreeMap<K, V> map = hashTable[hash(key)];
-        return map.get(key);
+        Bucket<K, V> bucket = getBucket(key, false);
+        return bucket == null ? null : bucket.get(key);
     }
 
     public Boolean isEmpty() { return size == 0; }
+
+    /*
+     * 批量操作
+     * */
+    public void putAll(HashTable<? extends K, ? extends V> other) { other.forEach((key, value) -> add(key, value)); }
+
+    /*
+     * 遍历操作
+     * */
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        finishRehash();
+        for (Bucket<K, V> bucket : hashTable)
+            if (bucket != null)
+                bucket.forEach(action);
+    }
+
+    @Override
+    public Iterator<java.util.Map.Entry<K, V>> iterator() {
+        finishRehash();
+        return new Iterator<java.util.Map.Entry<K, V>>() {
+            private int index = 0;  // 下一个要遍历的位置
+            private Iterator<java.util.Map.Entry<K, V>> curr = Collections.emptyIterator();
+
+            public boolean hasNext() {
+                while (!curr.hasNext() && index < hashTable.length) {  // 当前 Bucket 遍历完了就找下一个非空的 Bucket
+                    Bucket<K, V> bucket = hashTable[index++];
+                    if (bucket != null)
+                        curr = bucket.iterator();
+                }
+                return curr.hasNext();
+            }
+
+            public java.util.Map.Entry<K, V> next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                return curr.next();
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<java.util.Map.Entry<K, V>> spliterator() {
+        finishRehash();
+        return new BucketSpliterator(hashTable, 0, hashTable.length, size);
+    }
+
+    // 遍历 table 中 [lo, hi) 区间内的 Bucket，拆分时将区间一分为二
+    private class BucketSpliterator implements Spliterator<java.util.Map.Entry<K, V>> {
+        private final Bucket<K, V>[] table;
+        private int lo;
+        private final int hi;
+        private long est;  // 估计的元素个数（假设元素在各个位置上均匀分布）
+        private Iterator<java.util.Map.Entry<K, V>> curr = Collections.emptyIterator();
+
+        BucketSpliterator(Bucket<K, V>[] table, int lo, int hi, long est) {
+            this.table = table;
+            this.lo = lo;
+            this.hi = hi;
+            this.est = est;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super java.util.Map.Entry<K, V>> action) {
+            while (!curr.hasNext() && lo < hi) {
+                Bucket<K, V> bucket = table[lo++];
+                if (bucket != null)
+                    curr = bucket.iterator();
+            }
+            if (!curr.hasNext())
+                return false;
+            action.accept(curr.next());
+            return true;
+        }
+
+        @Override
+        public Spliterator<java.util.Map.Entry<K, V>> trySplit() {
+            int mid = (lo + hi) >>> 1;
+            if (curr.hasNext() || mid <= lo)  // 正在遍历某个 Bucket 的中途，或者区间已经不能再分
+                return null;
+            est >>>= 1;
+            BucketSpliterator prefix = new BucketSpliterator(table, lo, mid, est);
+            lo = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() { return est; }
+
+        @Override
+        public int characteristics() { return Spliterator.DISTINCT | Spliterator.NONNULL; }
+    }
+
+    // 统计各个位置上的冲突情况，O(M) 复杂度，用于监控和调试
+    public CollisionStats getCollisionStats() {
+        int[] histogram = new int[treeifyThreshold + 2];
+        int[] counts = new int[3];  // usedBuckets, maxBucketSize, treeifiedBuckets
+        for (Bucket<K, V> bucket : hashTable)
+            collectStats(bucket, true, histogram, counts);
+        if (isRehashing())  // rehash 期间旧数组中 [rehashIndex, oldM) 还没搬走，其中的元素也要统计，但不统计旧数组的空位置（容量报告的是 M）
+            for (int i = rehashIndex; i < oldM; i++)
+                collectStats(oldHashTable[i], false, histogram, counts);
+        return new CollisionStats(M, size, counts[0], counts[1], counts[2], histogram);
+    }
+
+    private void collectStats(Bucket<K, V> bucket, boolean countEmpty, int[] histogram, int[] counts) {
+        int n = bucket == null ? 0 : bucket.getSize();
+        if (n == 0 && !countEmpty)
+            return;
+        histogram[Math.min(n, histogram.length - 1)]++;
+        if (n == 0)
+            return;
+        counts[0]++;
+        counts[1] = Math.max(counts[1], n);
+        if (bucket.isTreeified())
+            counts[2]++;
+    }
 }
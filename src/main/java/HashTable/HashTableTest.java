@@ -27,6 +27,40 @@ public class HashTableTest {
         ht.add("b", 2);
         System.out.println("HashTable size: " + ht.getSize());
         ht.remove("a");
-        System.out.println("HashTable size: " + ht.getSize());
+        System.out.println("HashTable size: " + ht.getSize() + "\n");
+
+        // 测试渐进式 rehash：扩容/缩容时不再一次性搬完所有元素，而是在之后的每次操作中逐步搬迁
+        HashTable<Integer, Integer> ht2 = new HashTable<Integer, Integer>(true);
+        int n = 100000;
+        for (int i = 0; i < n; i++)
+            ht2.add(i, i);  // 会经过多次扩容
+        boolean ok = true;
+        for (int i = 0; i < n; i++)
+            ok &= ht2.contains(i) && ht2.get(i) == i;
+        for (int i = 0; i < n; i += 2)
+            ht2.remove(i);  // 会经过多次缩容
+        for (int i = 0; i < n; i++)
+            ok &= ht2.contains(i) == (i % 2 == 1);
+        System.out.println("Incremental HashTable size: " + ht2.getSize() + ", correct: " + ok + "\n");
+
+        // 测试哈希策略：构造大量 hashCode 相同的字符串（"Aa" 和 "BB" 的 hashCode 相同，因此由它们拼接出来的等长字符串的 hashCode 也都相同）
+        String[] keys = {"Aa", "BB"};
+        java.util.List<String> collisions = new java.util.ArrayList<String>();
+        collisions.add("");
+        for (int i = 0; i < 12; i++) {  // 2^12 = 4096 个 hashCode 相同的字符串
+            java.util.List<String> next = new java.util.ArrayList<String>();
+            for (String prefix : collisions)
+                for (String k : keys)
+                    next.add(prefix + k);
+            collisions = next;
+        }
+        HashTable<String, Integer> identityTable = new HashTable<String, Integer>(HashStrategy.identity());
+        HashTable<String, Integer> murmurTable = new HashTable<String, Integer>(HashStrategy.murmur3());
+        for (String k : collisions) {
+            identityTable.add(k, 1);
+            murmurTable.add(k, 1);
+        }
+        System.out.print("identity: " + identityTable.getCollisionStats());  // 全部挤在同一个位置上
+        System.out.print("murmur3: " + murmurTable.getCollisionStats());
     }
 }
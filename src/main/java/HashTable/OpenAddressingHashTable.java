@@ -0,0 +1,185 @@
+package HashTable;
+
+/*
+ * - 哈希冲突的另一种处理方法 —— 开放地址法（Open Addressing）
+ *   - HashTable.java 中使用的是 separate chaining：数组的每个位置上挂一个查找表（TreeMap），冲突的元素都放进这个查找表里。
+ *     这种做法的问题是：
+ *     1. 即使某个位置上一个元素都没有，也要预先 new 一个 TreeMap，每个 TreeMap 本身以及每个 TreeMap 节点都是一个对象，
+ *        内存开销很大，且数据分散在堆上，查找时需要多次跳转（缓存不友好）；
+ *     2. TreeMap 要求 key 是 Comparable 的，与 HashTable<K, V> 中 K 不要求 Comparable 相矛盾（即 HashTable.java 中说的 bug）。
+ *   - 开放地址法中，数组的每个位置上只存一个元素。当发生哈希冲突时，就按照某种规则去找数组中的下一个空位置：
+ *     - 线性探测（linear probing）：冲突了就看下一个位置 i+1，再冲突就看 i+2 ...
+ *     - 平方探测（quadratic probing）：i+1, i+4, i+9 ...
+ *     - 二次哈希（double hashing）：i + hash2(key), i + 2*hash2(key) ...
+ *   - 这里采用线性探测。它的探测序列在内存中是连续的，对 CPU 缓存最友好；只要负载率（size / capacity）不太高，平均探测次数就是常数级别的。
+ *
+ * - 实现：
+ *   - 使用两个平行的数组 keys[]、values[] 存储键值对，keys[i] == null 表示该位置为空，因此不需要额外的 Node/Entry 对象。
+ *   - capacity 取2的幂，这样 hash % capacity 可以用 hash & (capacity - 1) 代替（位运算比取模快）。但2的幂会使得 hashCode
+ *     的高位完全用不上，因此先用 h ^ (h >>> 16) 把高位混入低位（与 Java 8 的 HashMap 相同）。
+ *   - 负载率上限设为 1/2，超过就扩容一倍；低于 1/8 就缩容一半（与 Array 一样 lazy 地缩容，避免复杂度震荡）。
+ *   - 删除：不能简单地把该位置置空，否则会切断后面元素的探测序列（后面的元素可能是因为冲突才被放到后面的，置空后就再也找不到了）。
+ *     常见做法有两种：
+ *     1. 放一个"墓碑"（tombstone）标记，查找时跳过它、插入时可以复用它。缺点是墓碑会越积越多，拖慢查找；
+ *     2. 向后移位删除（backward shift deletion）：删除后，把后面同一段连续区域内"本应更靠前"的元素往前挪，填补空位。
+ *     这里使用第2种，因此表中永远没有墓碑。
+ *
+ * - 复杂度：负载率 <= 1/2 时，增删改查的平均复杂度都是 O(1)（均摊了 resize 的复杂度）。
+ * */
+
+public class OpenAddressingHashTable<K, V> {
+    private static final int initCapacity = 16;  // 必须是2的幂
+    private static final int maxCapacity = 1 << 30;  // int 范围内最大的2的幂
+
+    private K[] keys;
+    private V[] values;
+    private int mask;  // capacity - 1
+    private int size;
+
+    public OpenAddressingHashTable(int capacity) {
+        if (capacity <= 0 || (long) capacity * 2 > maxCapacity)
+            throw new IllegalArgumentException("Capacity must be in [1, 2^29]");
+        int cap = initCapacity;
+        while (cap < (long) capacity * 2)  // 保证装下 capacity 个元素时负载率不超过 1/2（用 long 比较，避免 capacity * 2 溢出）
+            cap <<= 1;
+        allocate(cap);
+        size = 0;
+    }
+
+    public OpenAddressingHashTable() {
+        allocate(initCapacity);
+        size = 0;
+    }
+
+    /*
+     * 辅助方法
+     * */
+    private void allocate(int capacity) {
+        keys = (K[]) new Object[capacity];
+        values = (V[]) new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    private int hash(K key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    // 返回 key 所在的位置；若 key 不存在，则返回探测序列上第一个空位置（即 key 应该插入的位置）
+    private int findSlot(K key) {
+        int i = hash(key);
+        while (keys[i] != null && !keys[i].equals(key))
+            i = (i + 1) & mask;  // 线性探测，到达数组末尾后绕回到0
+        return i;
+    }
+
+    private void resize(int newCapacity) {
+        K[] oldKeys = keys;
+        V[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == null) continue;
+            int j = hash(oldKeys[i]);
+            while (keys[j] != null)  // 新表中的 key 一定互不相同，因此只需找空位，不需要 equals
+                j = (j + 1) & mask;
+            keys[j] = oldKeys[i];
+            values[j] = oldValues[i];
+        }
+    }
+
+    private int getCapacity() { return keys.length; }
+
+    /*
+     * 增操作
+     * */
+    public void add(K key, V value) {
+        if (key == null)
+            throw new IllegalArgumentException("add failed. key cannot be null");
+
+        int i = findSlot(key);
+        if (keys[i] != null) {  // 如果已经存在，则做更新操作（相当于 set）
+            values[i] = value;
+            return;
+        }
+
+        if (size + 1 == getCapacity())  // 已经是最大容量且只剩最后一个空位（线性探测需要至少一个空位才能结束）
+            throw new IllegalArgumentException("add failed. Hashtable is full");
+
+        keys[i] = key;
+        values[i] = value;
+        size++;
+
+        if (size * 2 > getCapacity() && getCapacity() < maxCapacity)  // 负载率超过 1/2 就扩容，已经是最大容量时不再扩容
+            resize(getCapacity() * 2);
+    }
+
+    /*
+     * 删操作
+     * */
+    public V remove(K key) {
+        if (key == null)
+            return null;
+
+        int i = findSlot(key);
+        if (keys[i] == null)
+            return null;
+
+        V ret = values[i];
+        keys[i] = null;
+        values[i] = null;
+        size--;
+
+        // backward shift：从 i 的下一个位置开始，直到遇到空位置为止，检查这一段连续区域中的每个元素，
+        // 如果它的理想位置（hash 值）不在 (i, j] 这个循环区间内，说明它是因为冲突才被挤到 j 的，它的探测序列经过了 i，
+        // 因此要把它挪到空出来的 i 上，然后 j 成为新的空位置。
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            if (keys[j] == null)
+                break;
+            int k = hash(keys[j]);
+            boolean inRange = i <= j ? (i < k && k <= j) : (i < k || k <= j);  // i > j 说明区间绕回了数组开头
+            if (inRange)
+                continue;
+            keys[i] = keys[j];
+            values[i] = values[j];
+            keys[j] = null;
+            values[j] = null;
+            i = j;
+        }
+
+        if (size * 8 < getCapacity() && getCapacity() / 2 >= initCapacity)  // 负载率低于 1/8 就缩容
+            resize(getCapacity() / 2);
+
+        return ret;
+    }
+
+    /*
+     * 改操作
+     * */
+    public void set(K key, V value) {
+        if (key == null)
+            throw new IllegalArgumentException("set failed. key cannot be null");
+        int i = findSlot(key);
+        if (keys[i] == null)
+            throw new IllegalArgumentException("set failed. key doesn't exist in the hashtable");
+        values[i] = value;
+    }
+
+    /*
+     * 查操作
+     * */
+    public int getSize() { return size; }
+
+    public boolean contains(K key) {
+        return key != null && keys[findSlot(key)] != null;
+    }
+
+    public V get(K key) {
+        if (key == null)
+            return null;
+        return values[findSlot(key)];  // 不存在时 findSlot 返回的是空位置，values 上也是 null
+    }
+
+    public boolean isEmpty() { return size == 0; }
+}
@@ -0,0 +1,34 @@
+package HashTable;
+
+import java.util.Random;
+
+public class OpenAddressingHashTableTest {
+    public static void main(String[] args) {
+        // Student 没有实现 Comparable，不能作为 HashTable（基于 TreeMap）的 key，但可以作为 OpenAddressingHashTable 的 key
+        OpenAddressingHashTable<Student, Integer> st = new OpenAddressingHashTable<Student, Integer>();
+        st.add(new Student(1, 2, "Tom", "Hayse"), 90);
+        st.add(new Student(1, 2, "TOM", "Hayse"), 95);  // 与上一个 equals，因此是更新操作
+        System.out.println("size: " + st.getSize() + ", score: " + st.get(new Student(1, 2, "tom", "hayse")) + "\n");
+
+        // 随机增删，与 java.util.HashMap 的结果对比（会经过多次扩容、缩容和 backward shift 删除）
+        OpenAddressingHashTable<Integer, Integer> ht = new OpenAddressingHashTable<Integer, Integer>();
+        java.util.HashMap<Integer, Integer> expected = new java.util.HashMap<Integer, Integer>();
+        Random random = new Random();
+        for (int i = 0; i < 200000; i++) {
+            int key = random.nextInt(5000);
+            if (random.nextInt(3) == 0) {
+                Integer r1 = ht.remove(key);
+                Integer r2 = expected.remove(key);
+                if (r1 == null ? r2 != null : !r1.equals(r2))
+                    throw new IllegalStateException("remove mismatch at key " + key);
+            } else {
+                ht.add(key, i);
+                expected.put(key, i);
+            }
+        }
+        for (int key = 0; key < 5000; key++)
+            if (ht.contains(key) != expected.containsKey(key) || (ht.contains(key) && !ht.get(key).equals(expected.get(key))))
+                throw new IllegalStateException("lookup mismatch at key " + key);
+        System.out.println("size: " + ht.getSize() + ", expected: " + expected.size());
+    }
+}
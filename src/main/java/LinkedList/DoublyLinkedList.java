@@ -0,0 +1,292 @@
+package LinkedList;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/*
+ * - 双向链表：每个节点除了 next 还有一个 prev 指针，并且同时追踪头尾。
+ *   - LinkedList 是单向的，且只追踪头，因此 addLast、removeLast 都要从头遍历到尾，是 O(n) 的；removeLast 即使追踪了尾
+ *     也没用，因为删除尾节点需要它的前一个节点（SEE: LinkedListQueue 只能在尾部入队，不能在尾部出队）；
+ *   - 双向链表在两端的增、删、查都是 O(1) 的。
+ *
+ * - 两个虚拟节点（sentinel）：与 LinkedList 中的 dummyHead 同理，在头部放一个 dummyHead、尾部放一个 dummyTail，
+ *   则每个真实节点都一定有 prev 和 next，插入、删除时不再需要区分是否是第一个、最后一个节点：
+ *       dummyHead <-> a <-> b <-> c <-> dummyTail
+ *
+ * - 节点句柄（handle）：addFirst、addLast、addBefore、addAfter 返回新节点的 Node，调用者保存它之后可以 O(1) 地删除该节点、
+ *   或把它移到头部/尾部，不需要先遍历查找。这正是 LRU 缓存的实现方式：HashMap 中保存 key -> Node，访问时把 Node 移到
+ *   头部，淘汰时删除尾部的节点。
+ *   - 句柄必须属于当前链表，这一点不做检查（检查需要每个节点记录所属的链表，而 concat、splice 之后更新它是 O(n) 的）；
+ *     已经被删除的句柄会被检查出来。
+ *
+ * - concat、splice：把另一个链表的所有节点整段接到当前链表的末尾或某个节点之前，只需修改两端的4个指针，是 O(1) 的，
+ *   不会逐个拷贝元素。操作之后另一个链表变为空链表。
+ * */
+
+public class DoublyLinkedList<E> implements Iterable<E> {
+    public class Node {
+        private E e;
+        private Node prev, next;
+
+        private Node(E e, Node prev, Node next) {
+            this.e = e;
+            this.prev = prev;
+            this.next = next;
+        }
+
+        public E getElement() { return e; }
+
+        public void setElement(E e) { this.e = e; }
+
+        @Override
+        public String toString() { return String.valueOf(e); }
+    }
+
+    private final Node dummyHead, dummyTail;
+    private int size;
+
+    public DoublyLinkedList() {
+        dummyHead = new Node(null, null, null);
+        dummyTail = new Node(null, dummyHead, null);
+        dummyHead.next = dummyTail;
+        size = 0;
+    }
+
+    public DoublyLinkedList(E[] arr) {
+        this();
+        for (E e : arr)
+            addLast(e);
+    }
+
+    /*
+     * 辅助方法
+     * */
+    private Node linkBefore(Node succ, E e) {  // 在 succ 之前插入新节点
+        Node node = new Node(e, succ.prev, succ);
+        succ.prev.next = node;
+        succ.prev = node;
+        size++;
+        return node;
+    }
+
+    private void unlink(Node node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = node.next = null;  // 标记为已删除
+        size--;
+    }
+
+    private void checkHandle(Node node, String op) {
+        if (node == null || node == dummyHead || node == dummyTail || node.next == null)
+            throw new IllegalArgumentException(op + " failed. Node is not in the list.");
+    }
+
+    private Node getNode(int index) {  // 从离 index 较近的一端开始遍历
+        if (index < size / 2) {
+            Node curr = dummyHead.next;
+            for (int i = 0; i < index; i++)
+                curr = curr.next;
+            return curr;
+        }
+        Node curr = dummyTail.prev;
+        for (int i = size - 1; i > index; i--)
+            curr = curr.prev;
+        return curr;
+    }
+
+    /*
+     * 增操作
+     * */
+    public Node addFirst(E e) { return linkBefore(dummyHead.next, e); }
+
+    public Node addLast(E e) { return linkBefore(dummyTail, e); }
+
+    public Node addBefore(Node node, E e) {
+        checkHandle(node, "addBefore");
+        return linkBefore(node, e);
+    }
+
+    public Node addAfter(Node node, E e) {
+        checkHandle(node, "addAfter");
+        return linkBefore(node.next, e);
+    }
+
+    public Node addAtIndex(E e, int index) {
+        if (index < 0 || index > size)
+            throw new IllegalArgumentException("addAtIndex failed. Reuqires index < 0 || index > size");
+        return linkBefore(index == size ? dummyTail : getNode(index), e);
+    }
+
+    public void concat(DoublyLinkedList<E> other) { splice(dummyTail, other); }  // 把 other 的所有节点接到末尾
+
+    public void splice(Node node, DoublyLinkedList<E> other) {  // 把 other 的所有节点整段插入到 node 之前，node 为 null 表示插入到末尾
+        if (node == null)
+            node = dummyTail;
+        else if (node != dummyTail)
+            checkHandle(node, "splice");
+        if (other == this)
+            throw new IllegalArgumentException("splice failed. Cannot splice a list into itself.");
+        if (other.isEmpty())
+            return;
+
+        Node first = other.dummyHead.next, last = other.dummyTail.prev;
+        other.dummyHead.next = other.dummyTail;  // other 变为空链表
+        other.dummyTail.prev = other.dummyHead;
+
+        first.prev = node.prev;
+        last.next = node;
+        node.prev.next = first;
+        node.prev = last;
+
+        size += other.size;
+        other.size = 0;
+    }
+
+    /*
+     * 删操作
+     * */
+    public E remove(Node node) {  // O(1) 删除句柄对应的节点
+        checkHandle(node, "remove");
+        unlink(node);
+        return node.e;
+    }
+
+    public E removeFirst() {
+        if (isEmpty())
+            throw new IllegalArgumentException("removeFirst failed. List is empty.");
+        return remove(dummyHead.next);
+    }
+
+    public E removeLast() {
+        if (isEmpty())
+            throw new IllegalArgumentException("removeLast failed. List is empty.");
+        return remove(dummyTail.prev);
+    }
+
+    public E removeAtIndex(int index) {
+        if (index < 0 || index >= size)
+            throw new IllegalArgumentException("removeAtIndex failed. Reuqires index < 0 || index >= size");
+        return remove(getNode(index));
+    }
+
+    public boolean removeElement(E e) {  // 删除第一个值为 e 的节点，返回是否删除了
+        Node node = findNode(e);
+        if (node == null)
+            return false;
+        unlink(node);
+        return true;
+    }
+
+    /*
+     * 改操作
+     * */
+    public void moveToFront(Node node) {  // 把句柄对应的节点移到头部，如 LRU 中访问了某个 key
+        checkHandle(node, "moveToFront");
+        if (node.prev == dummyHead)
+            return;
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = dummyHead;
+        node.next = dummyHead.next;
+        dummyHead.next.prev = node;
+        dummyHead.next = node;
+    }
+
+    public void moveToBack(Node node) {
+        checkHandle(node, "moveToBack");
+        if (node.next == dummyTail)
+            return;
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.next = dummyTail;
+        node.prev = dummyTail.prev;
+        dummyTail.prev.next = node;
+        dummyTail.prev = node;
+    }
+
+    public void set(int index, E e) {
+        if (index < 0 || index >= size)
+            throw new IllegalArgumentException("set failed. Reuqires index < 0 || index >= size");
+        getNode(index).e = e;
+    }
+
+    /*
+     * 查操作
+     * */
+    public Node firstNode() { return isEmpty() ? null : dummyHead.next; }  // 为空时返回 null
+
+    public Node lastNode() { return isEmpty() ? null : dummyTail.prev; }
+
+    public Node nextNode(Node node) {  // node 是最后一个节点时返回 null
+        checkHandle(node, "nextNode");
+        return node.next == dummyTail ? null : node.next;
+    }
+
+    public Node prevNode(Node node) {
+        checkHandle(node, "prevNode");
+        return node.prev == dummyHead ? null : node.prev;
+    }
+
+    public Node findNode(E e) {  // 不存在时返回 null
+        for (Node curr = dummyHead.next; curr != dummyTail; curr = curr.next)
+            if (e == null ? curr.e == null : e.equals(curr.e))
+                return curr;
+        return null;
+    }
+
+    public boolean contains(E e) { return findNode(e) != null; }
+
+    public E get(int index) {
+        if (index < 0 || index >= size)
+            throw new IllegalArgumentException("get failed. Reuqires index < 0 || index >= size");
+        return getNode(index).e;
+    }
+
+    public E getFirst() {
+        if (isEmpty())
+            throw new IllegalArgumentException("getFirst failed. List is empty.");
+        return dummyHead.next.e;
+    }
+
+    public E getLast() {
+        if (isEmpty())
+            throw new IllegalArgumentException("getLast failed. List is empty.");
+        return dummyTail.prev.e;
+    }
+
+    public int getSize() { return size; }
+
+    public boolean isEmpty() { return size == 0; }
+
+    /*
+     * Misc
+     * */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private Node curr = dummyHead.next;
+
+            @Override
+            public boolean hasNext() { return curr != dummyTail; }
+
+            @Override
+            public E next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                E e = curr.e;
+                curr = curr.next;
+                return e;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder();
+        s.append("Size: " + size + ",  null <-> ");
+        for (Node curr = dummyHead.next; curr != dummyTail; curr = curr.next)
+            s.append(curr + " <-> ");
+        s.append("null");
+        return s.toString();
+    }
+}
@@ -0,0 +1,106 @@
+package LinkedList;
+
+import java.util.HashMap;
+
+public class DoublyLinkedListTest {
+    private static class LRUCache<K, V> {  // 用 HashMap 保存 key -> 节点句柄，双向链表按访问时间排序（头部是最近访问的）
+        private final int capacity;
+        private final HashMap<K, DoublyLinkedList<K>.Node> nodes = new HashMap<K, DoublyLinkedList<K>.Node>();
+        private final HashMap<K, V> values = new HashMap<K, V>();
+        private final DoublyLinkedList<K> order = new DoublyLinkedList<K>();
+
+        LRUCache(int capacity) { this.capacity = capacity; }
+
+        V get(K key) {
+            DoublyLinkedList<K>.Node node = nodes.get(key);
+            if (node == null)
+                return null;
+            order.moveToFront(node);  // O(1)
+            return values.get(key);
+        }
+
+        void put(K key, V value) {
+            DoublyLinkedList<K>.Node node = nodes.get(key);
+            if (node != null)
+                order.moveToFront(node);
+            else {
+                if (nodes.size() == capacity) {  // 淘汰最久未访问的 key，即尾部的节点
+                    K eldest = order.removeLast();
+                    nodes.remove(eldest);
+                    values.remove(eldest);
+                }
+                nodes.put(key, order.addFirst(key));
+            }
+            values.put(key, value);
+        }
+
+        @Override
+        public String toString() { return "recent -> " + order; }
+    }
+
+    public static void main(String[] args) {
+        DoublyLinkedList<Integer> l = new DoublyLinkedList<Integer>();
+
+        // 测试两端的增、删操作
+        for (int i = 0; i < 3; i++) {
+            l.addFirst(i);
+            l.addLast(10 + i);
+        }
+        System.out.println(l);
+        System.out.println("removeFirst: " + l.removeFirst() + ", removeLast: " + l.removeLast());
+        System.out.println(l);
+
+        // 测试节点句柄
+        System.out.println("\nTesting handles");
+        DoublyLinkedList<Integer>.Node handle = l.addAtIndex(99, 2);
+        l.addAfter(handle, 100);
+        System.out.println(l);
+        l.moveToFront(handle);
+        System.out.println(l + " after moveToFront(99)");
+        System.out.println(l + " Removed: " + l.remove(handle));
+        try {
+            l.remove(handle);
+        } catch (IllegalArgumentException ex) {
+            System.out.println("remove again: " + ex.getMessage());
+        }
+
+        // 测试 concat、splice
+        System.out.println("\nTesting concat and splice");
+        DoublyLinkedList<Integer> a = new DoublyLinkedList<Integer>(new Integer[]{1, 2, 3});
+        DoublyLinkedList<Integer> b = new DoublyLinkedList<Integer>(new Integer[]{4, 5});
+        DoublyLinkedList<Integer> c = new DoublyLinkedList<Integer>(new Integer[]{7, 8});
+        a.concat(b);
+        System.out.println(a + ", b: " + b);
+        a.splice(a.findNode(3), c);
+        System.out.println(a + ", c: " + c);
+
+        // 测试 LRU 缓存
+        System.out.println("\nTesting LRU cache");
+        LRUCache<String, Integer> cache = new LRUCache<String, Integer>(3);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        cache.get("a");
+        cache.put("d", 4);  // 淘汰 b
+        System.out.println(cache + ", get(b) = " + cache.get("b"));
+
+        // 测试尾部操作的性能：LinkedList 的 removeLast 是 O(n) 的
+        System.out.println("\nTesting removeLast");
+        int n = 20000;
+        DoublyLinkedList<Integer> dl = new DoublyLinkedList<Integer>();
+        LinkedList<Integer> sl = new LinkedList<Integer>();
+        for (int i = 0; i < n; i++) {
+            dl.addFirst(i);
+            sl.addFirst(i);
+        }
+        long startTime = System.nanoTime();
+        while (!dl.isEmpty())
+            dl.removeLast();
+        double t1 = (System.nanoTime() - startTime) / 1e9;
+        startTime = System.nanoTime();
+        while (!sl.isEmpty())
+            sl.removeLast();
+        double t2 = (System.nanoTime() - startTime) / 1e9;
+        System.out.println(String.format("n = %d, DoublyLinkedList: %.4f s, LinkedList: %.4f s", n, t1, t2));
+    }
+}
@@ -1,5 +1,8 @@
 package LinkedList;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
 /*
  * - 注：先看 LinkedListWithoutDummyHead.java，再看这里的实现。
  * - LinkedListWithoutDummyHead 的实现没有问题，只是不够优雅，因为在对任意位置添加结点的时候需要区别 index 是否是 0。
@@ -24,9 +27,14 @@ package LinkedList;
  *
  * - 链表与递归：
  *   链表具有天然的 1.动态性质 2.递归性质。其递归性质 SEE：L203_Remove_Linked_List_Elements - Solution3
+ *   - 但递归实现每经过一个节点就多一层调用栈，链表有上万个节点时就会 StackOverflowError。因此所有公开的操作都是迭代实现，
+ *     递归实现保留为带 R 后缀的包内可见方法（如 addAtIndexR、removeElementsR），仅在 LinkedListTest 中演示，不对外公开。
+ *
+ * - Cursor：需要连续修改多处时（如边遍历边删除、插入），若每次都调用 removeAtIndex、addAtIndex，每次都要从头
+ *   遍历到 index，总共是 O(n^2)。Cursor 记住游标所在的位置，在游标处插入、删除都是 O(1)，整个批量修改只需遍历一遍。
  * */
 
-public class LinkedList<E> {
+public class LinkedList<E> implements Iterable<E> {
 
     private Node dummyHead;
     private int size;
@@ -74,9 +82,20 @@ public class LinkedList<E> {
     * 增操作
     * */
     // 一般不会在链表任意位置添加节点（如需这种操作，很有可能不该选这种数据结构），但面试题中可能会出现
-    public void addAtIndex(E e, int index) {  // 增操作的递归实现
+    public void addAtIndex(E e, int index) {
         if (index < 0 || index > size)
             throw new IllegalArgumentException("addAtIndex failed. Reuqires index < 0 || index > size");
+
+        Node prev = dummyHead;
+        for (int i = 0; i != index; i++)
+            prev = prev.next;  // 不再是 index - 1，因为多了一个 dummy head node
+        prev.next = new Node(e, prev.next);
+        size++;
+    }
+
+    void addAtIndexR(E e, int index) {  // 增操作的递归实现
+        if (index < 0 || index > size)
+            throw new IllegalArgumentException("addAtIndexR failed. Reuqires index < 0 || index > size");
         dummyHead = add(dummyHead, e, index, 0);
     }
 
@@ -89,16 +108,8 @@ public class LinkedList<E> {
         return prev;
     }
 
-    public void addAtIndexNR(E e, int index) {
-        if (index < 0 || index > size)
-            throw new IllegalArgumentException("addAtIndexNR failed. Reuqires index < 0 || index > size");
-
-        Node prev = dummyHead;
-        for (int i = 0; i != index; i++)
-            prev = prev.next;  // 不再是 index - 1，因为多了一个 dummy head node
-        prev.next = new Node(e, prev.next);
-        size++;
-    }
+    @Deprecated
+    public void addAtIndexNR(E e, int index) { addAtIndex(e, index); }  // addAtIndex 已经是非递归实现，保留旧方法名以兼容调用者
 
     public void addFirst(E e) { addAtIndex(e, 0); }
 
@@ -110,7 +121,22 @@ public class LinkedList<E> {
     // 一般不会在链表任意位置删除节点（如需这种操作，很有可能不该选这种数据结构），用的更多的是从链表中删除某一元素，见 removeElement。
     public E removeAtIndex(int index) {
         if (index < 0 || index >= size)
-            throw new IllegalArgumentException("removeAtIndex failed. Reuqires index < 0 || index > size");
+            throw new IllegalArgumentException("removeAtIndex failed. Reuqires index < 0 || index >= size");
+
+        Node prev = dummyHead;
+        for (int i = 0; i < index; i++)
+            prev = prev.next;  // 找到待删除节点的前一个节点
+        Node toBeRemoved = prev.next;
+        prev.next = toBeRemoved.next;
+        toBeRemoved.next = null;
+        size--;
+
+        return toBeRemoved.e;
+    }
+
+    E removeAtIndexR(int index) {  // 递归实现
+        if (index < 0 || index >= size)
+            throw new IllegalArgumentException("removeAtIndexR failed. Reuqires index < 0 || index >= size");
         Node retNode = remove(dummyHead, index, 0);
         return (E) retNode.e;
     }
@@ -126,28 +152,34 @@ public class LinkedList<E> {
         return remove(prev.next, index, depth + 1);
     }
 
-    public E removeAtIndexNR(int index) {  // 非递归实现
-        if (index < 0 || index > size)
-            throw new IllegalArgumentException("removeAtIndex failed. Reuqires index < 0 || index > size");
-
-        Node prev = dummyHead;
-        for (int i = 0; i < index; i++)
-            prev = prev.next;  // 找到待删除节点的前一个节点
-        Node toBeRemoved = prev.next;
-        prev.next = toBeRemoved.next;
-        toBeRemoved.next = null;
-        size--;
-
-        return toBeRemoved.e;
-    }
+    @Deprecated
+    public E removeAtIndexNR(int index) { return removeAtIndex(index); }
 
     public E removeFirst() { return removeAtIndex(0); }
 
     public E removeLast() { return removeAtIndex(size - 1); }
 
-    public void removeElement(E e) {
+    public void removeElement(E e) {  // 删除第一个值为 e 的节点
         if (e == null)
             throw new IllegalArgumentException("removeElement failed.");
+
+        for (Node prev = dummyHead; prev.next != null; prev = prev.next) {
+            Node curr = prev.next;
+            if (e.equals(curr.e)) {
+                prev.next = curr.next;
+                curr.next = null;
+                size--;
+                return;
+            }
+        }
+    }
+
+    @Deprecated
+    public void removeElementNR(E e) { removeElement(e); }
+
+    void removeElementR(E e) {  // 递归实现
+        if (e == null)
+            throw new IllegalArgumentException("removeElementR failed.");
         dummyHead = removeElement(dummyHead, e);
     }
 
@@ -163,23 +195,25 @@ public class LinkedList<E> {
         return node;
     }
 
-    public void removeElementNR(E e) {  // 删除任意元素的非递归实现
+    public void removeElements(E e) {  // 删除链表中所有值为 e 的节点，只遍历一遍（删除节点后 prev 不动，继续检查新的 prev.next）
+        if (e == null)
+            throw new IllegalArgumentException("removeElements failed.");
+
         Node prev = dummyHead;
-        for (int i = 0; i < size; i++) {
+        while (prev.next != null) {
             Node curr = prev.next;
-            if (curr != null && curr.e.equals(e)) {
+            if (e.equals(curr.e)) {
                 prev.next = curr.next;
                 curr.next = null;
                 size--;
-                return;
-            }
-            prev = prev.next;
+            } else
+                prev = curr;
         }
     }
 
-    public void removeElements(E e) {  // 删除链表中所有值为 e 的节点
+    void removeElementsR(E e) {  // 递归实现
         if (e == null)
-            throw new IllegalArgumentException("removeElements failed.");
+            throw new IllegalArgumentException("removeElementsR failed.");
         dummyHead = removeElements(dummyHead, e);
     }
 
@@ -198,6 +232,16 @@ public class LinkedList<E> {
      * 查操作
      * */
     public boolean contains(E e) {
+        for (Node curr = dummyHead.next; curr != null; curr = curr.next)
+            if (curr.e.equals(e))
+                return true;
+        return false;
+    }
+
+    @Deprecated
+    public boolean containsNR(E e) { return contains(e); }
+
+    boolean containsR(E e) {  // 递归实现
         return contains(dummyHead.next, e);
     }
 
@@ -208,17 +252,23 @@ public class LinkedList<E> {
             return true;
         return contains(curr.next, e);
     }
-    
-    public boolean containsNR(E e) {
-        for (Node curr = dummyHead.next; curr != null; curr = curr.next)
-            if (curr.e.equals(e))
-                return true;
-        return false;
-    }
 
     public E get(int index) {
         if (index < 0 || index >= size)
-            throw new IllegalArgumentException("get failed. Reuqires index < 0 || index > size");
+            throw new IllegalArgumentException("get failed. Reuqires index < 0 || index >= size");
+
+        Node curr = dummyHead.next;
+        for (int i = 0; i < index; i++)
+            curr = curr.next;
+        return curr.e;  // 最后返回的是 node 中的数据
+    }
+
+    @Deprecated
+    public E getNR(int index) { return get(index); }
+
+    E getR(int index) {  // 递归实现
+        if (index < 0 || index >= size)
+            throw new IllegalArgumentException("getR failed. Reuqires index < 0 || index >= size");
         Node retNode = get(dummyHead.next, index, 0);
         return (E) retNode.e;
     }
@@ -229,16 +279,6 @@ public class LinkedList<E> {
         return get(curr.next, index, depth + 1);
     }
 
-    public E getNR(int index) {
-        if (index < 0 || index > size)
-            throw new IllegalArgumentException("get failed. Reuqires index < 0 || index > size");
-
-        Node curr = dummyHead.next;
-        for (int i = 0; i < index; i++)
-            curr = curr.next;
-        return curr.e;  // 最后返回的是 node 中的数据
-    }
-
     public E getFirst() { return get(0); }
 
     public E getLast() { return get(size - 1); }
@@ -248,8 +288,8 @@ public class LinkedList<E> {
      * */
     // 根据 index 去 set 值在链表中不是常用操作，仅练习用
     public void set(int index, E e) {
-        if (index < 0 || index > size)
-            throw new IllegalArgumentException("set failed. Reuqires index < 0 || index > size");
+        if (index < 0 || index >= size)
+            throw new IllegalArgumentException("set failed. Reuqires index < 0 || index >= size");
 
         Node curr = dummyHead.next;
         for (int i = 0; i < index; i++)
@@ -257,6 +297,74 @@ public class LinkedList<E> {
         curr.e = e;
     }
 
+    /*
+     * 迭代器
+     * */
+    public Cursor cursor() { return new Cursor(); }
+
+    public Cursor cursor(int index) {  // 从第 index 个元素之前开始
+        if (index < 0 || index > size)
+            throw new IllegalArgumentException("cursor failed. Reuqires index < 0 || index > size");
+        Cursor it = new Cursor();
+        for (int i = 0; i < index; i++)
+            it.prev = it.prev.next;
+        it.index = index;
+        return it;
+    }
+
+    @Override
+    public Iterator<E> iterator() { return cursor(); }
+
+    public class Cursor implements Iterator<E> {  // 只能向前移动（单向链表无法 O(1) 地后退），因此不实现 java.util.ListIterator
+        private Node prev = dummyHead;  // 游标位于 prev 和 prev.next 之间
+        private Node lastReturned;      // 最近一次 next() 返回的节点，remove、set 操作的就是它
+        private Node lastReturnedPrev;  // lastReturned 的前一个节点，remove 时用来把它摘下来
+        private int index = 0;          // 下一次 next() 返回的元素的下标
+
+        private Cursor() { }
+
+        @Override
+        public boolean hasNext() { return prev.next != null; }
+
+        @Override
+        public E next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            lastReturnedPrev = prev;
+            lastReturned = prev = prev.next;
+            index++;
+            return lastReturned.e;
+        }
+
+        public int nextIndex() { return index; }
+
+        @Override
+        public void remove() {  // 删除最近一次 next() 返回的元素，O(1)
+            if (lastReturned == null)
+                throw new IllegalStateException("remove failed. Call next() first.");
+            lastReturnedPrev.next = lastReturned.next;
+            lastReturned.next = null;
+            prev = lastReturnedPrev;
+            lastReturned = null;
+            index--;
+            size--;
+        }
+
+        public void set(E e) {  // 修改最近一次 next() 返回的元素，O(1)
+            if (lastReturned == null)
+                throw new IllegalStateException("set failed. Call next() first.");
+            lastReturned.e = e;
+        }
+
+        public void add(E e) {  // 在游标处插入元素（插入后游标位于新元素之后，下一次 next() 不会返回它），O(1)
+            prev.next = new Node(e, prev.next);
+            prev = prev.next;
+            lastReturned = null;
+            index++;
+            size++;
+        }
+    }
+
     @Override
     public String toString() {
         StringBuilder s = new StringBuilder();
@@ -10,8 +10,8 @@ public class LinkedListTest {
             System.out.println(l);
         }
 
-        l.addAtIndexNR(888, 2);
-        l.addAtIndex(999, 4);
+        l.addAtIndex(888, 2);
+        l.addAtIndexR(999, 4);
         System.out.println(l);
 
         // 测试查操作
@@ -34,14 +34,40 @@ public class LinkedListTest {
         int ret5 = l.removeLast();
         System.out.println(l + " Removed: " + ret5);
 
-        l.removeElement(999);
+        l.removeElementR(999);
         System.out.println(l);
-        l.removeElementNR(2);
+        l.removeElement(2);
         System.out.println(l);
 
         // 测试通过数组生成链表
         System.out.println("\nTesting constructor");
         LinkedList<Integer> l2 = new LinkedList<Integer>(new Integer[]{9, 8, 7, 6});  // 注意这里数组不能写成 int[]，java 的泛型不支持
         System.out.println(l2);
+
+        // 测试 Cursor：一遍遍历中删除所有偶数，并在每个奇数后插入它的10倍
+        System.out.println("\nTesting Cursor");
+        LinkedList<Integer> l3 = new LinkedList<Integer>(new Integer[]{1, 2, 3, 4, 5, 6});
+        LinkedList<Integer>.Cursor it = l3.cursor();
+        while (it.hasNext()) {
+            int e = it.next();
+            if (e % 2 == 0)
+                it.remove();
+            else
+                it.add(e * 10);
+        }
+        System.out.println(l3);
+
+        // 测试长链表：递归实现会 StackOverflowError，迭代实现不会
+        System.out.println("\nTesting long list");
+        LinkedList<Integer> l4 = new LinkedList<Integer>();
+        for (int i = 0; i < 200000; i++)
+            l4.addFirst(i % 3);
+        l4.removeElements(0);
+        System.out.println("removeElements: size = " + l4.getSize() + ", last = " + l4.getLast());
+        try {
+            l4.removeElementsR(1);
+        } catch (StackOverflowError err) {
+            System.out.println("removeElementsR: StackOverflowError");
+        }
     }
 }
@@ -0,0 +1,334 @@
+package LinkedList;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/*
+ * - 展开链表（unrolled linked list）：每个节点不再只存一个元素，而是存一个小数组（默认64个元素），兼顾链表和数组的优点：
+ *   - LinkedList 每个元素一个 Node，每个元素都要额外占用一个对象头和一个 next 指针，节点在内存中也不连续，按下标访问时
+ *     每走一步都可能是一次 cache miss；并且 get(index) 的递归实现的调用栈深度与 index 成正比，链表很长时会 StackOverflow；
+ *   - Array 按下标访问是 O(1)，但在中间插入、删除需要移动后面所有的元素，是 O(n) 的。
+ *
+ * - 结构：
+ *       head                                        tail
+ *        ↓                                           ↓
+ *     [a|b|c|d| | ] <-> [e|f|g| | | ] <-> [h|i|j|k|l| ]
+ *   - 按下标定位时以节点为单位跳跃，每个节点至少半满，因此只需走 O(n / nodeCapacity) 步；
+ *   - 在节点内插入、删除只需移动节点内的元素（最多 nodeCapacity 个），System.arraycopy 移动一段连续的内存非常快。
+ *
+ * - 分裂与合并（保证除了只有一个节点的情况外，每个节点至少有 nodeCapacity / 2 个元素）：
+ *   - 插入时节点已满：把节点分裂为两个各有一半元素的节点，再插入；
+ *   - 删除后节点不足半满：若与后一个节点（没有后一个则与前一个）的元素总数不超过 nodeCapacity，则合并为一个节点；
+ *     否则从那个节点借一部分元素过来，使两个节点的元素个数大致相等（都至少半满）。
+ *
+ * - 缓存最近访问的节点（finger）：记录最近一次访问的节点及其第一个元素的下标。定位时从 head、tail、缓存节点三者中离
+ *   目标最近的一个出发，因此顺序访问（get(0), get(1), get(2), ...）每次只需 O(1)，不会每次都从 head 开始。
+ *
+ * - 节点间使用双向链接，这样既可以从 tail 向前走，也可以在删除后与前一个节点合并。
+ * */
+
+public class UnrolledLinkedList<E> implements Iterable<E> {
+    private static final int defaultNodeCapacity = 64;
+
+    private class Node {
+        public E[] items;
+        public int count;
+        public Node prev, next;
+
+        public Node() { items = (E[]) new Object[nodeCapacity]; }
+    }
+
+    private final int nodeCapacity;
+    private Node head, tail;
+    private int size;
+    private int nodeCount;
+    private Node finger;      // 最近访问的节点
+    private int fingerStart;  // finger 节点中第一个元素的下标
+
+    public UnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 4)
+            throw new IllegalArgumentException("nodeCapacity must be at least 4");
+        this.nodeCapacity = nodeCapacity;
+        head = tail = finger = new Node();
+        size = fingerStart = 0;
+        nodeCount = 1;
+    }
+
+    public UnrolledLinkedList() { this(defaultNodeCapacity); }
+
+    public UnrolledLinkedList(E[] arr) {
+        this();
+        for (E e : arr)
+            addLast(e);
+    }
+
+    /*
+     * 辅助方法
+     * */
+    private void locate(int index) {  // 让 finger 指向下标为 index 的元素所在的节点（index == size 时指向 tail）
+        if (index >= fingerStart && index < fingerStart + finger.count)
+            return;
+
+        Node node;
+        int start;
+        int fingerDistance = Math.abs(index - fingerStart);
+        if (index < fingerDistance) {  // 从 head 出发离得最近
+            node = head;
+            start = 0;
+        } else if (size - index < fingerDistance) {  // 从 tail 出发离得最近
+            node = tail;
+            start = size - tail.count;
+        } else {
+            node = finger;
+            start = fingerStart;
+        }
+
+        while (index >= start + node.count && node.next != null) {
+            start += node.count;
+            node = node.next;
+        }
+        while (index < start) {
+            node = node.prev;
+            start -= node.count;
+        }
+        finger = node;
+        fingerStart = start;
+    }
+
+    private Node insertNodeAfter(Node node) {
+        Node newNode = new Node();
+        newNode.prev = node;
+        newNode.next = node.next;
+        if (node.next != null)
+            node.next.prev = newNode;
+        else
+            tail = newNode;
+        node.next = newNode;
+        nodeCount++;
+        return newNode;
+    }
+
+    private void unlinkNode(Node node) {
+        if (node.prev != null)
+            node.prev.next = node.next;
+        else
+            head = node.next;
+        if (node.next != null)
+            node.next.prev = node.prev;
+        else
+            tail = node.prev;
+        node.prev = node.next = null;
+        nodeCount--;
+    }
+
+    private void split(Node node) {  // 把 node 后一半的元素移到一个新节点中
+        Node newNode = insertNodeAfter(node);
+        int half = node.count / 2;
+        int moved = node.count - half;
+        System.arraycopy(node.items, half, newNode.items, 0, moved);
+        java.util.Arrays.fill(node.items, half, node.count, null);
+        newNode.count = moved;
+        node.count = half;
+    }
+
+    private void rebalance(Node node, int start) {  // node 不足半满时与相邻节点合并或借元素，start 为 node 第一个元素的下标
+        if (node.count >= nodeCapacity / 2 || nodeCount == 1)
+            return;
+
+        Node left, right;
+        int leftStart;
+        if (node.next != null) {
+            left = node;
+            right = node.next;
+            leftStart = start;
+        } else {
+            left = node.prev;
+            right = node;
+            leftStart = start - left.count;
+        }
+
+        if (left.count + right.count <= nodeCapacity) {  // 合并：把 right 的元素全部移到 left 中
+            System.arraycopy(right.items, 0, left.items, left.count, right.count);
+            left.count += right.count;
+            unlinkNode(right);
+        } else if (left.count < right.count) {  // 从 right 的头部借元素
+            int moved = (right.count - left.count) / 2;
+            System.arraycopy(right.items, 0, left.items, left.count, moved);
+            System.arraycopy(right.items, moved, right.items, 0, right.count - moved);
+            java.util.Arrays.fill(right.items, right.count - moved, right.count, null);
+            left.count += moved;
+            right.count -= moved;
+        } else {  // 从 left 的尾部借元素
+            int moved = (left.count - right.count) / 2;
+            System.arraycopy(right.items, 0, right.items, moved, right.count);
+            System.arraycopy(left.items, left.count - moved, right.items, 0, moved);
+            java.util.Arrays.fill(left.items, left.count - moved, left.count, null);
+            left.count -= moved;
+            right.count += moved;
+        }
+        finger = left;
+        fingerStart = leftStart;
+    }
+
+    /*
+     * 增操作
+     * */
+    public void addAtIndex(E e, int index) {
+        if (index < 0 || index > size)
+            throw new IllegalArgumentException("addAtIndex failed. Reuqires index < 0 || index > size");
+
+        locate(index);
+        Node node = finger;
+        int offset = index - fingerStart;
+        if (node.count == nodeCapacity) {
+            split(node);
+            if (offset > node.count) {  // 插入位置在分裂出的新节点中
+                fingerStart += node.count;
+                offset -= node.count;
+                node = node.next;
+                finger = node;
+            }
+        }
+        System.arraycopy(node.items, offset, node.items, offset + 1, node.count - offset);
+        node.items[offset] = e;
+        node.count++;
+        size++;
+    }
+
+    public void addFirst(E e) { addAtIndex(e, 0); }
+
+    public void addLast(E e) {  // 最常见的情况，直接写入 tail，不需要定位
+        if (tail.count == nodeCapacity) {
+            Node newNode = insertNodeAfter(tail);
+            finger = newNode;
+            fingerStart = size;
+        }
+        tail.items[tail.count++] = e;
+        size++;
+    }
+
+    /*
+     * 删操作
+     * */
+    public E removeAtIndex(int index) {
+        if (index < 0 || index >= size)
+            throw new IllegalArgumentException("removeAtIndex failed. Reuqires index < 0 || index >= size");
+
+        locate(index);
+        Node node = finger;
+        int offset = index - fingerStart;
+        E ret = node.items[offset];
+        System.arraycopy(node.items, offset + 1, node.items, offset, node.count - offset - 1);
+        node.items[--node.count] = null;
+        size--;
+        rebalance(node, fingerStart);
+        return ret;
+    }
+
+    public E removeFirst() { return removeAtIndex(0); }
+
+    public E removeLast() { return removeAtIndex(size - 1); }
+
+    public boolean removeElement(E e) {  // 删除第一个值为 e 的元素，返回是否删除了
+        int index = indexOf(e);
+        if (index < 0)
+            return false;
+        removeAtIndex(index);
+        return true;
+    }
+
+    public void clear() {
+        head = tail = finger = new Node();
+        size = fingerStart = 0;
+        nodeCount = 1;
+    }
+
+    /*
+     * 改操作
+     * */
+    public void set(int index, E e) {
+        if (index < 0 || index >= size)
+            throw new IllegalArgumentException("set failed. Reuqires index < 0 || index >= size");
+        locate(index);
+        finger.items[index - fingerStart] = e;
+    }
+
+    /*
+     * 查操作
+     * */
+    public E get(int index) {
+        if (index < 0 || index >= size)
+            throw new IllegalArgumentException("get failed. Reuqires index < 0 || index >= size");
+        locate(index);
+        return finger.items[index - fingerStart];
+    }
+
+    public E getFirst() { return get(0); }
+
+    public E getLast() { return get(size - 1); }
+
+    public int indexOf(E e) {  // 不存在时返回 -1
+        int start = 0;
+        for (Node node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++)
+                if (e == null ? node.items[i] == null : e.equals(node.items[i]))
+                    return start + i;
+            start += node.count;
+        }
+        return -1;
+    }
+
+    public boolean contains(E e) { return indexOf(e) >= 0; }
+
+    public int getSize() { return size; }
+
+    public boolean isEmpty() { return size == 0; }
+
+    public int getNodeCapacity() { return nodeCapacity; }
+
+    public int getNodeCount() { return nodeCount; }
+
+    /*
+     * Misc
+     * */
+    @Override
+    public Iterator<E> iterator() {  // 逐个节点、节点内逐个元素地遍历，不经过 locate
+        return new Iterator<E>() {
+            private Node node = head;
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                while (node != null && i == node.count) {
+                    node = node.next;
+                    i = 0;
+                }
+                return node != null;
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                return node.items[i++];
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder();
+        s.append(String.format("Size: %d, Nodes: %d,  ", size, nodeCount));
+        for (Node node = head; node != null; node = node.next) {
+            s.append("[");
+            for (int i = 0; i < node.count; i++) {
+                s.append(node.items[i]);
+                if (i != node.count - 1)
+                    s.append(", ");
+            }
+            s.append("] -> ");
+        }
+        s.append("null");
+        return s.toString();
+    }
+}
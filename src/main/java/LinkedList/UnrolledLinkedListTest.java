@@ -0,0 +1,77 @@
+package LinkedList;
+
+import java.util.Random;
+
+public class UnrolledLinkedListTest {
+    private static void testSequentialGet(int n) {  // 按下标顺序访问所有元素
+        UnrolledLinkedList<Integer> ul = new UnrolledLinkedList<Integer>();
+        LinkedList<Integer> l = new LinkedList<Integer>();
+        for (int i = 0; i < n; i++) {
+            ul.addLast(i);
+            l.addFirst(n - 1 - i);
+        }
+
+        long startTime = System.nanoTime();
+        long sum = 0;
+        for (int i = 0; i < n; i++)
+            sum += ul.get(i);
+        double t1 = (System.nanoTime() - startTime) / 1e9;
+
+        startTime = System.nanoTime();
+        long sum2 = 0;
+        for (int i = 0; i < n; i++)
+            sum2 += l.get(i);
+        double t2 = (System.nanoTime() - startTime) / 1e9;
+
+        System.out.println(String.format("Sequential get, n = %d: UnrolledLinkedList %.4f s, LinkedList %.4f s (%s)",
+                n, t1, t2, sum == sum2 ? "same sum" : "DIFFERENT"));
+    }
+
+    private static void testRandomInsert(int n) {  // 在随机位置插入，构建有序缓冲区的典型操作
+        Random random = new Random(42);
+        UnrolledLinkedList<Integer> ul = new UnrolledLinkedList<Integer>();
+        long startTime = System.nanoTime();
+        for (int i = 0; i < n; i++)
+            ul.addAtIndex(i, random.nextInt(ul.getSize() + 1));
+        double t1 = (System.nanoTime() - startTime) / 1e9;
+
+        random = new Random(42);
+        LinkedList<Integer> l = new LinkedList<Integer>();
+        int m = Math.min(n, 20000);  // LinkedList 每次插入都要从头走，n 太大时太慢
+        startTime = System.nanoTime();
+        for (int i = 0; i < m; i++)
+            l.addAtIndex(i, random.nextInt(l.getSize() + 1));
+        double t2 = (System.nanoTime() - startTime) / 1e9;
+
+        System.out.println(String.format("Random insert: UnrolledLinkedList %d in %.4f s (%d nodes), LinkedList %d in %.4f s",
+                n, t1, ul.getNodeCount(), m, t2));
+    }
+
+    public static void main(String[] args) {
+        UnrolledLinkedList<Integer> l = new UnrolledLinkedList<Integer>(4);
+
+        // 测试增操作（节点已满时分裂）
+        for (int i = 0; i < 10; i++)
+            l.addLast(i);
+        System.out.println(l);
+        l.addAtIndex(100, 1);
+        l.addFirst(200);
+        System.out.println(l);
+
+        // 测试查、改操作
+        System.out.println("get(5): " + l.get(5) + ", contains 100: " + l.contains(100) + ", indexOf 9: " + l.indexOf(9));
+        l.set(0, 300);
+        System.out.println(l);
+
+        // 测试删操作（节点不足半满时合并或借元素）
+        for (int i = 0; i < 5; i++)
+            System.out.println(l + " Removed: " + l.removeAtIndex(2));
+        l.removeElement(300);
+        System.out.println(l + " Removed: 300");
+        System.out.println(l + " Removed: " + l.removeLast());
+
+        System.out.println();
+        testSequentialGet(20000);
+        testRandomInsert(100000);
+    }
+}
@@ -4,8 +4,15 @@ package Map;
  * - 这里使用 AVLTree 实现 Map
  * */
 
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 
 public class AVLTreeMap<K extends Comparable<K>, V> implements Map<K, V> {
     private Node root;
@@ -203,6 +210,39 @@ public class AVLTreeMap<K extends Comparable<K>, V> implements Map<K, V> {
         node.value = value;
     }
 
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        AbstractMap.SimpleEntry<Node, V> res = compute(root, key, remappingFunction);
+        root = res.getKey();
+        return res.getValue();
+    }
+
+    // 返回 node/value pair（维护平衡之后的子树根节点，以及算出的新值），只递归一遍
+    private AbstractMap.SimpleEntry<Node, V> compute(Node node, K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        if (node == null) {  // key 不存在
+            V newValue = remappingFunction.apply(key, null);
+            if (newValue == null)
+                return new AbstractMap.SimpleEntry<Node, V>(null, null);
+            size++;
+            return new AbstractMap.SimpleEntry<Node, V>(new Node(key, newValue), newValue);
+        }
+
+        AbstractMap.SimpleEntry<Node, V> res;
+        if (key.compareTo(node.key) < 0) {
+            res = compute(node.left, key, remappingFunction);
+            node.left = res.getKey();
+        } else if (key.compareTo(node.key) > 0) {
+            res = compute(node.right, key, remappingFunction);
+            node.right = res.getKey();
+        } else {
+            V newValue = remappingFunction.apply(key, node.value);
+            if (newValue == null)  // 新值为 null 则删除该节点（node 就是待删除节点，因此 remove 不会再往下递归），remove 中已经维护了平衡
+                return new AbstractMap.SimpleEntry<Node, V>(remove(node, key), null);
+            node.value = newValue;
+            return new AbstractMap.SimpleEntry<Node, V>(node, newValue);
+        }
+        return new AbstractMap.SimpleEntry<Node, V>(maintainBalance(node), res.getValue());
+    }
+
     /*
      * 查操作
      */
@@ -223,6 +263,44 @@ public class AVLTreeMap<K extends Comparable<K>, V> implements Map<K, V> {
 
     public int getSize() { return size; }
 
+    /*
+     * 遍历操作（中序遍历，因此是按 key 从小到大的顺序）
+     */
+    public void forEach(BiConsumer<? super K, ? super V> action) { forEach(root, action); }
+
+    private void forEach(Node node, BiConsumer<? super K, ? super V> action) {
+        if (node == null)
+            return;
+        forEach(node.left, action);
+        action.accept(node.key, node.value);
+        forEach(node.right, action);
+    }
+
+    public Iterator<java.util.Map.Entry<K, V>> iterator() {  // 中序遍历的非递归实现：用栈保存从当前节点到根节点路径上还没访问的祖先节点
+        return new Iterator<java.util.Map.Entry<K, V>>() {
+            private Deque<Node> stack = new ArrayDeque<Node>();
+
+            {
+                pushLeftPath(root);
+            }
+
+            private void pushLeftPath(Node node) {  // 将 node 及其一路向左的所有节点入栈，栈顶即为下一个要访问的节点
+                for (; node != null; node = node.left)
+                    stack.push(node);
+            }
+
+            public boolean hasNext() { return !stack.isEmpty(); }
+
+            public java.util.Map.Entry<K, V> next() {
+                if (stack.isEmpty())
+                    throw new NoSuchElementException();
+                Node node = stack.pop();
+                pushLeftPath(node.right);  // 访问完 node 之后，下一个是其右子树中最小的节点
+                return new AbstractMap.SimpleImmutableEntry<K, V>(node.key, node.value);
+            }
+        };
+    }
+
     /*
      * Misc
      * */
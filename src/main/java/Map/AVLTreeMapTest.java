@@ -20,5 +20,16 @@ public class AVLTreeMapTest {
         System.out.println("size: " + avlTreeMap.getSize());
         System.out.println("isBST: " + avlTreeMap.isBST(avlTreeMap.getRoot()));
         System.out.println("isBalanced: " + avlTreeMap.isBalanced());
+
+        // 测试遍历（中序遍历，按 key 从小到大）
+        for (java.util.Map.Entry<String, Integer> entry : avlTreeMap)
+            System.out.print(entry.getKey() + "=" + entry.getValue() + " ");
+        System.out.println();
+
+        // 测试 putAll 和流式聚合
+        HashMap<String, Integer> hashMap = new HashMap<String, Integer>();
+        hashMap.putAll(avlTreeMap);
+        hashMap.add("z", 26);
+        System.out.println("sum: " + hashMap.parallelStream().mapToInt(java.util.Map.Entry::getValue).sum());
     }
 }
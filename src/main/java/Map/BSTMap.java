@@ -2,6 +2,14 @@ package Map;
 
 import javafx.util.Pair;
 
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
 /*
 * - 这里使用 BST 实现 Map。
 * - 与 Set 一样，Map 也分为：
@@ -142,6 +150,38 @@ public class BSTMap<K extends Comparable<K>, V> implements Map<K, V> {
         node.value = value;
     }
 
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Pair<Node, V> res = compute(root, key, remappingFunction);
+        root = res.getKey();
+        return res.getValue();
+    }
+
+    private Pair<Node, V> compute(Node node, K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {  // 与 remove 一样返回 node/value pair，只递归一遍
+        if (node == null) {  // key 不存在
+            V newValue = remappingFunction.apply(key, null);
+            if (newValue == null)
+                return new Pair<Node, V>(null, null);
+            size++;
+            return new Pair<Node, V>(new Node(key, newValue), newValue);
+        }
+
+        if (key.compareTo(node.key) < 0) {
+            Pair<Node, V> res = compute(node.left, key, remappingFunction);
+            node.left = res.getKey();
+            return new Pair<Node, V>(node, res.getValue());
+        } else if (key.compareTo(node.key) > 0) {
+            Pair<Node, V> res = compute(node.right, key, remappingFunction);
+            node.right = res.getKey();
+            return new Pair<Node, V>(node, res.getValue());
+        } else {
+            V newValue = remappingFunction.apply(key, node.value);
+            if (newValue == null)  // 新值为 null 则删除该节点（node 就是待删除节点，因此 remove 不会再往下递归）
+                return new Pair<Node, V>(remove(node, key).getKey(), null);
+            node.value = newValue;
+            return new Pair<Node, V>(node, newValue);
+        }
+    }
+
     /*
      * 查操作
      */
@@ -162,6 +202,44 @@ public class BSTMap<K extends Comparable<K>, V> implements Map<K, V> {
 
     public int getSize() { return size; }
 
+    /*
+     * 遍历操作（中序遍历，因此是按 key 从小到大的顺序）
+     */
+    public void forEach(BiConsumer<? super K, ? super V> action) { forEach(root, action); }
+
+    private void forEach(Node node, BiConsumer<? super K, ? super V> action) {
+        if (node == null)
+            return;
+        forEach(node.left, action);
+        action.accept(node.key, node.value);
+        forEach(node.right, action);
+    }
+
+    public Iterator<java.util.Map.Entry<K, V>> iterator() {  // 中序遍历的非递归实现：用栈保存从当前节点到根节点路径上还没访问的祖先节点
+        return new Iterator<java.util.Map.Entry<K, V>>() {
+            private Deque<Node> stack = new ArrayDeque<Node>();
+
+            {
+                pushLeftPath(root);
+            }
+
+            private void pushLeftPath(Node node) {  // 将 node 及其一路向左的所有节点入栈，栈顶即为下一个要访问的节点
+                for (; node != null; node = node.left)
+                    stack.push(node);
+            }
+
+            public boolean hasNext() { return !stack.isEmpty(); }
+
+            public java.util.Map.Entry<K, V> next() {
+                if (stack.isEmpty())
+                    throw new NoSuchElementException();
+                Node node = stack.pop();
+                pushLeftPath(node.right);  // 访问完 node 之后，下一个是其右子树中最小的节点
+                return new AbstractMap.SimpleImmutableEntry<K, V>(node.key, node.value);
+            }
+        };
+    }
+
     /*
      * Misc
      * */
@@ -2,6 +2,11 @@ package Map;
 
 import HashTable.HashTable;
 
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
 /*
  * - 这里实现的 HashMap 只是实现了 Map 接口的 HashTable（为了性能测试方便），他们底层实现是一样的。而 Java 中的 HashMap 和
  *   Hashtable（注意 t 是小写）是有本质区别的：
@@ -27,6 +32,9 @@ public class HashMap<K, V> implements Map<K,V> {
     @Override
     public void set(K key, V value) { map.set(key, value); }
 
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) { return map.compute(key, remappingFunction); }
+
     @Override
     public boolean contains(K key) { return map.contains(key); }
 
@@ -35,4 +43,13 @@ public class HashMap<K, V> implements Map<K,V> {
 
     @Override
     public int getSize() { return map.getSize(); }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) { map.forEach(action); }
+
+    @Override
+    public Iterator<java.util.Map.Entry<K, V>> iterator() { return map.iterator(); }
+
+    @Override
+    public Spliterator<java.util.Map.Entry<K, V>> spliterator() { return map.spliterator(); }  // 按数组位置的区间拆分
 }
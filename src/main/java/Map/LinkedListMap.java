@@ -1,5 +1,11 @@
 package Map;
 
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
 public class LinkedListMap<K, V> implements Map<K, V> {
     private Node dummyHead;
     private int size;
@@ -108,6 +114,29 @@ public class LinkedListMap<K, V> implements Map<K, V> {
         node.value = value;
     }
 
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {  // 只遍历一遍链表
+        for (Node prev = dummyHead; prev.next != null; prev = prev.next) {
+            Node curr = prev.next;
+            if (curr.key.equals(key)) {
+                V newValue = remappingFunction.apply(key, curr.value);
+                if (newValue == null) {  // 新值为 null 则删除该节点（prev 已经找到了，直接断开即可）
+                    prev.next = curr.next;
+                    curr.next = null;
+                    size--;
+                } else
+                    curr.value = newValue;
+                return newValue;
+            }
+        }
+
+        V newValue = remappingFunction.apply(key, null);
+        if (newValue != null) {  // 不存在则添加到链表头
+            dummyHead.next = new Node(key, newValue, dummyHead.next);
+            size++;
+        }
+        return newValue;
+    }
+
     /*
      * 查操作
      */
@@ -122,6 +151,30 @@ public class LinkedListMap<K, V> implements Map<K, V> {
 
     public int getSize() { return size; }
 
+    /*
+     * 遍历操作
+     */
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (Node curr = dummyHead.next; curr != null; curr = curr.next)
+            action.accept(curr.key, curr.value);
+    }
+
+    public Iterator<java.util.Map.Entry<K, V>> iterator() {
+        return new Iterator<java.util.Map.Entry<K, V>>() {
+            private Node curr = dummyHead.next;
+
+            public boolean hasNext() { return curr != null; }
+
+            public java.util.Map.Entry<K, V> next() {
+                if (curr == null)
+                    throw new NoSuchElementException();
+                java.util.Map.Entry<K, V> entry = new AbstractMap.SimpleImmutableEntry<K, V>(curr.key, curr.value);
+                curr = curr.next;
+                return entry;
+            }
+        };
+    }
+
     /*
     * Misc
     * */
@@ -19,5 +19,13 @@ public class LinkedListMapTest {
 
         System.out.println(map.get("c"));
         System.out.println(map.get("a"));
+
+        // 测试 compute 系列操作（都只遍历一遍链表）
+        map.merge("c", 10, Integer::sum);
+        map.merge("d", 1, Integer::sum);
+        map.putIfAbsent("d", 100);  // d 已存在，不会覆盖
+        map.computeIfAbsent("e", key -> 5);
+        map.compute("c", (key, value) -> null);  // 返回 null 表示删除
+        System.out.println(map + " getOrDefault(c): " + map.getOrDefault("c", 0));
     }
 }
@@ -1,6 +1,28 @@
 package Map;
 
-public interface Map<K, V> {
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/*
+ * - 遍历：Map 是一个键值对（java.util.Map.Entry）的 Iterable，因此可以直接用 for-each 循环遍历，也可以通过 stream() 或
+ *   parallelStream() 进行聚合计算。
+ *   - forEach(BiConsumer) 由各个实现直接遍历底层结构，不需要为每个键值对创建 Entry 对象，是最快的遍历方式；
+ *   - spliterator 默认按迭代器分批拆分，HashMap 会覆盖为按数组位置的区间拆分，使并行流可以把整个表均匀地分给多个线程。
+ * - 遍历过程中不能修改 Map（与 java.util 中的集合一样）。
+ *
+ * - compute 系列操作：像词频统计这种"有则更新、无则添加"的逻辑，如果用 contains + add + get + set 来写，需要在底层结构中
+ *   查找4次（对于 BSTMap 就是从根节点往下走4遍）。compute 在一次查找中完成"找到 key -> 根据旧值算出新值 -> 更新/添加/删除"，
+ *   各个实现都只需要走一遍。merge、computeIfAbsent、putIfAbsent 都基于 compute 实现，因此也都只需要走一遍。
+ *   - 与 java.util.Map 一致：值为 null 视为 key 不存在；remappingFunction 返回 null 表示删除该 key。
+ * */
+
+public interface Map<K, V> extends Iterable<java.util.Map.Entry<K, V>> {
     void add(K key, V value);
     V remove(K key);
     V get(K key);
@@ -8,4 +30,57 @@ public interface Map<K, V> {
     boolean contains(K key);
     boolean isEmpty();
     int getSize();
+
+    V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction);  // 返回新值
+
+    default V getOrDefault(K key, V defaultValue) {
+        V value = get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    default V putIfAbsent(K key, V value) {  // 返回旧值，若原来不存在则返回 null
+        Object[] oldValue = new Object[1];  // lambda 中不能给局部变量赋值，因此用一个数组把旧值带出来
+        compute(key, (k, old) -> {
+            oldValue[0] = old;
+            return old != null ? old : value;
+        });
+        return (V) oldValue[0];
+    }
+
+    default V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        return compute(key, (k, old) -> old != null ? old : mappingFunction.apply(k));
+    }
+
+    default V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        return compute(key, (k, old) -> old == null ? value : remappingFunction.apply(old, value));
+    }
+
+    void forEach(BiConsumer<? super K, ? super V> action);
+
+    default void putAll(Map<? extends K, ? extends V> other) { other.forEach((key, value) -> add(key, value)); }
+
+    default Iterator<K> keyIterator() {
+        Iterator<java.util.Map.Entry<K, V>> it = iterator();
+        return new Iterator<K>() {
+            public boolean hasNext() { return it.hasNext(); }
+            public K next() { return it.next().getKey(); }
+        };
+    }
+
+    default Iterator<V> valueIterator() {
+        Iterator<java.util.Map.Entry<K, V>> it = iterator();
+        return new Iterator<V>() {
+            public boolean hasNext() { return it.hasNext(); }
+            public V next() { return it.next().getValue(); }
+        };
+    }
+
+    @Override
+    default Spliterator<java.util.Map.Entry<K, V>> spliterator() {
+        return Spliterators.spliterator(iterator(), getSize(), Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+
+    default Stream<java.util.Map.Entry<K, V>> stream() { return StreamSupport.stream(spliterator(), false); }
+
+    default Stream<java.util.Map.Entry<K, V>> parallelStream() { return StreamSupport.stream(spliterator(), true); }
 }
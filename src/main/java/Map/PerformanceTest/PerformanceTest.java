@@ -43,12 +43,8 @@ public class PerformanceTest {
         ArrayList<String> words = new ArrayList<String>();
         if (FileOperation.readFile(pathname, words)) {
             System.out.println("Total words: " + words.size());
-            for (String word : words) {
-                if (!map.contains(word))
-                    map.add(word, 1);  // 只比较 add 操作的效率
-                int a = map.get(word) + 1;
-                map.set(word, a);
-            }
+            for (String word : words)
+                map.merge(word, 1, Integer::sum);  // 相当于 contains + add + get + set，但只需要查找一次
             System.out.println("Total different words: " + map.getSize());
         }
 
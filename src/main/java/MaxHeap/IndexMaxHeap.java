@@ -0,0 +1,191 @@
+package MaxHeap;
+
+/*
+ * - 索引堆（Index Heap）：
+ *   - MaxHeap 中的元素一旦放进堆里就没法再找到它了（只知道堆顶），因此无法修改某个元素的优先级，也无法删除堆中任意一个元素。
+ *     要修改优先级只能重建整个堆，或者插入一个新元素、让旧元素留在堆里变成"过期"元素（堆会越来越大）。
+ *   - 索引堆中每个元素都有一个句柄（handle，即一个 [0, capacity) 范围内的整数，如 Dijkstra 中的顶点编号、定时器的 id），
+ *     通过句柄可以在 O(1) 时间内找到该元素在堆中的位置，从而在 O(logn) 时间内修改它的优先级或删除它。
+ *
+ * - 实现：
+ *   - data[handle]：句柄对应的元素，元素本身不移动；
+ *   - indexes[i]：堆中第 i 个位置上的元素的句柄，siftUp、siftDown 时移动的是句柄而不是元素；
+ *   - reverse[handle]：句柄在堆中的位置，即 indexes[reverse[handle]] == handle，句柄不在堆中时为 -1。
+ *     每次移动 indexes 中的句柄时都要同步更新 reverse。
+ *
+ * - 复杂度：
+ *      insert    extractMax    changePriority    remove     contains    findMax
+ *     O(logn)     O(logn)         O(logn)        O(logn)      O(1)        O(1)
+ * */
+
+import java.util.Arrays;
+
+public class IndexMaxHeap<E extends Comparable<E>> {
+    private E[] data;
+    private int[] indexes;
+    private int[] reverse;
+    private int size;
+
+    public IndexMaxHeap(int capacity) {
+        data = (E[]) new Comparable[capacity];
+        indexes = new int[capacity];
+        reverse = new int[capacity];
+        Arrays.fill(reverse, -1);
+        size = 0;
+    }
+
+    public IndexMaxHeap() { this(10); }
+
+    /*
+     * 辅助方法
+     * */
+    private int getParentIndex(int index) { return (index - 1) / 2; }
+
+    private int getLeftChildIndex(int index) { return index * 2 + 1; }
+
+    private boolean less(int i, int j) { return data[indexes[i]].compareTo(data[indexes[j]]) < 0; }  // 比较堆中第 i 个和第 j 个位置上的元素
+
+    private void place(int k, int handle) {  // 将句柄放到堆中第 k 个位置上，并同步更新 reverse
+        indexes[k] = handle;
+        reverse[handle] = k;
+    }
+
+    private void siftUp(int k) {
+        int handle = indexes[k];
+        while (k > 0 && data[indexes[getParentIndex(k)]].compareTo(data[handle]) < 0) {
+            place(k, indexes[getParentIndex(k)]);
+            k = getParentIndex(k);
+        }
+        place(k, handle);
+    }
+
+    private void siftDown(int k) {
+        int handle = indexes[k];
+        while (getLeftChildIndex(k) < size) {
+            int i = getLeftChildIndex(k);
+            if (i + 1 < size && less(i, i + 1))
+                i += 1;
+
+            if (data[handle].compareTo(data[indexes[i]]) >= 0)
+                break;
+
+            place(k, indexes[i]);
+            k = i;
+        }
+        place(k, handle);
+    }
+
+    private void checkHandle(int handle) {
+        if (handle < 0)
+            throw new IllegalArgumentException("Handle must be non-negative");
+    }
+
+    private void ensureCapacity(int handle) {  // 句柄超出范围时扩容（保证 handle < capacity）
+        if (handle < data.length)
+            return;
+        int newCapacity = Math.max(data.length * 2, handle + 1);
+        data = Arrays.copyOf(data, newCapacity);
+        indexes = Arrays.copyOf(indexes, newCapacity);
+        int oldCapacity = reverse.length;
+        reverse = Arrays.copyOf(reverse, newCapacity);
+        Arrays.fill(reverse, oldCapacity, newCapacity, -1);
+    }
+
+    /*
+     * 增操作
+     * */
+    public void insert(int handle, E e) {
+        checkHandle(handle);
+        ensureCapacity(handle);
+        if (contains(handle))
+            throw new IllegalArgumentException("insert failed. Handle " + handle + " is already in the heap");
+
+        data[handle] = e;
+        place(size, handle);
+        size++;
+        siftUp(size - 1);
+    }
+
+    /*
+     * 取操作
+     * */
+    public E extractMax() { return remove(findMaxHandle()); }
+
+    public int extractMaxHandle() {  // 取出堆顶元素，返回其句柄
+        int handle = findMaxHandle();
+        remove(handle);
+        return handle;
+    }
+
+    /*
+     * 删操作（删除堆中任意一个元素：用堆中最后一个元素填补它的位置，再根据需要 siftUp 或 siftDown）
+     * */
+    public E remove(int handle) {
+        if (!contains(handle))
+            throw new IllegalArgumentException("remove failed. Handle " + handle + " is not in the heap");
+
+        int k = reverse[handle];
+        E ret = data[handle];
+        size--;
+        if (k != size) {
+            int last = indexes[size];
+            place(k, last);
+            siftUp(k);                 // 填补上来的元素可能比原来的父节点大，也可能比原来的孩子小，两者只会发生其一
+            siftDown(reverse[last]);
+        }
+        reverse[handle] = -1;
+        data[handle] = null;
+        return ret;
+    }
+
+    /*
+     * 改操作
+     * */
+    public void changePriority(int handle, E e) {
+        if (!contains(handle))
+            throw new IllegalArgumentException("changePriority failed. Handle " + handle + " is not in the heap");
+        data[handle] = e;
+        siftUp(reverse[handle]);  // 优先级变大则上浮，变小则下沉，两者只会发生其一
+        siftDown(reverse[handle]);
+    }
+
+    /*
+     * 查操作
+     * */
+    public boolean contains(int handle) { return handle >= 0 && handle < reverse.length && reverse[handle] != -1; }
+
+    public E get(int handle) {
+        if (!contains(handle))
+            throw new IllegalArgumentException("get failed. Handle " + handle + " is not in the heap");
+        return data[handle];
+    }
+
+    public E findMax() { return data[findMaxHandle()]; }
+
+    public int findMaxHandle() {
+        if (size == 0)
+            throw new IllegalArgumentException("findMax failed. Empty heap.");
+        return indexes[0];
+    }
+
+    public int getSize() { return size; }
+
+    public boolean isEmpty() { return size == 0; }
+
+    /*
+     * Misc
+     * */
+    @Override
+    public String toString() {  // 按堆中的顺序打印 handle: element
+        StringBuilder s = new StringBuilder();
+        s.append(String.format("Size = %d\n", size));
+        s.append("[");
+        for (int i = 0; i < size; i++) {
+            s.append(indexes[i]).append(": ").append(data[indexes[i]]);
+            if (i != size - 1)
+                s.append(", ");
+        }
+        s.append("]\n");
+        return s.toString();
+    }
+}
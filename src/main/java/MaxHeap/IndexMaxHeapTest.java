@@ -0,0 +1,38 @@
+package MaxHeap;
+
+public class IndexMaxHeapTest {
+    public static void main(String[] args) {
+        // 句柄为任务编号，元素为任务优先级
+        int[] priorities = {15, 17, 19, 15, 22, 16, 28, 30};
+        IndexMaxHeap<Integer> heap = new IndexMaxHeap<Integer>();
+        for (int i = 0; i < priorities.length; i++)
+            heap.insert(i, priorities[i]);
+        System.out.println("heap (handle: priority): " + heap);
+
+        // 测试 changePriority：任务0 的优先级提高到最高，任务7 的优先级降到最低
+        heap.changePriority(0, 100);
+        heap.changePriority(7, 1);
+        System.out.println("after changePriority(0, 100), changePriority(7, 1): " + heap);
+
+        // 测试 remove、contains
+        heap.remove(6);
+        System.out.println("after remove(6): contains(6) = " + heap.contains(6) + ", contains(5) = " + heap.contains(5));
+
+        // 测试 extractMaxHandle：按优先级从高到低取出任务编号
+        StringBuilder s = new StringBuilder();
+        while (!heap.isEmpty()) {
+            int handle = heap.findMaxHandle();
+            s.append(handle + "(" + heap.get(handle) + ") ");
+            heap.extractMaxHandle();
+        }
+        System.out.println("extracted: " + s.toString());
+
+        // 测试 extractMax：按优先级从高到低取出元素本身
+        for (int i = 0; i < priorities.length; i++)
+            heap.insert(i, priorities[i]);
+        StringBuilder s2 = new StringBuilder();
+        while (!heap.isEmpty())
+            s2.append(heap.extractMax() + " ");
+        System.out.println("extractMax: " + s2.toString());
+    }
+}
@@ -0,0 +1,116 @@
+package MaxHeap;
+
+/*
+ * - MaxHeap 的 int 特化版本：底层使用 IntArray（int[]），元素之间直接用 < > 比较，不需要装箱，也没有 compareTo 的虚方法调用。
+ * - 同样支持 d 叉堆，实现与 MaxHeap 完全一致，SEE: MaxHeap.java
+ * */
+
+import Array.IntArray;
+
+public class IntMaxHeap {
+    private IntArray data;
+    private final int d;  // 每个节点最多有几个孩子，默认是二叉堆
+
+    public IntMaxHeap(int capacity, int d) {
+        if (d < 2)
+            throw new IllegalArgumentException("d must be >= 2");
+        data = new IntArray(capacity);
+        this.d = d;
+    }
+
+    public IntMaxHeap(int capacity) { this(capacity, 2); }
+
+    public IntMaxHeap() { this(10); }
+
+    public IntMaxHeap(int[] arr) { this(arr, 2); }
+
+    public IntMaxHeap(int[] arr, int d) {  // heapify
+        if (d < 2)
+            throw new IllegalArgumentException("d must be >= 2");
+        this.d = d;
+        data = new IntArray(arr);
+        int lastNonLeafNodeIndex = getParentIndex(getSize() - 1);
+        for (int i = lastNonLeafNodeIndex; i >= 0; i--)
+            siftDown(i);
+    }
+
+    /*
+     * 辅助方法
+     **/
+    private int getParentIndex(int index) { return (index - 1) / d; }
+
+    private int getFirstChildIndex(int index) { return index * d + 1; }
+
+    private void siftUp(int k) {
+        int e = data.get(k);
+        while (k > 0 && data.get(getParentIndex(k)) < e) {
+            data.set(k, data.get(getParentIndex(k)));
+            k = getParentIndex(k);
+        }
+        data.set(k, e);
+    }
+
+    private void siftDown(int k) {
+        if (k >= getSize())
+            return;
+        int e = data.get(k);
+        while (getFirstChildIndex(k) < getSize()) {
+            int i = getFirstChildIndex(k);
+            int last = Math.min(i + d, getSize());
+            for (int j = i + 1; j < last; j++)
+                if (data.get(j) > data.get(i))
+                    i = j;
+
+            if (e >= data.get(i))
+                break;
+
+            data.set(k, data.get(i));
+            k = i;
+        }
+        data.set(k, e);
+    }
+
+    /*
+     * 增操作
+     * */
+    public void insert(int e) {
+        data.addLast(e);
+        siftUp(getSize() - 1);
+    }
+
+    /*
+     * 取操作
+     * */
+    public int extractMax() {
+        int ret = findMax();
+        data.set(0, data.getLast());
+        data.removeLast();
+        siftDown(0);
+        return ret;
+    }
+
+    /*
+     * 改操作
+     * */
+    public int replace(int e) {
+        int ret = findMax();
+        data.set(0, e);
+        siftDown(0);
+        return ret;
+    }
+
+    /*
+     * 查操作
+     * */
+    public int findMax() { return data.getFirst(); }
+
+    public int getSize() { return data.getSize(); }
+
+    public boolean isEmpty() { return data.isEmpty(); }
+
+    /*
+     * Misc
+     * */
+    @Override
+    public String toString() { return data.toString(); }
+}
@@ -0,0 +1,22 @@
+package MaxHeap.L347_Top_K_Frequent_Elements;
+
+import MaxHeap.TopK;
+
+import java.util.*;
+
+/*
+* 使用 TopK（SEE: MaxHeap.TopK）：频率直接作为分数传入，不需要为每个元素创建 Frequency 对象，频率不超过门槛的元素
+* 只需要一次比较就被丢弃。返回结果按频率从高到低排列。
+* */
+
+public class Solution6 {
+    public List<Integer> topKFrequent(int[] nums, int k) {
+        HashMap<Integer, Integer> map = new HashMap<>();
+        for (int num : nums)
+            map.merge(num, 1, Integer::sum);
+
+        TopK<Integer> top = new TopK<>(k);
+        map.forEach((key, freq) -> top.offer(key, freq));
+        return top.toList();
+    }
+}
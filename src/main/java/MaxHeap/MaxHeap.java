@@ -56,22 +56,53 @@ package MaxHeap;
 *     都看作是操作系统提供的一个常数级操作即可。
 *   - 从另一个角度来看，算法复杂度分析考虑的是排除了外在条件影响后的算法本身的效率，内容如何分配、内存是否不足……这
 *     些都属于外在条件影响，在分析算法复杂度时可以忽略，但在分析和优化算法实际运行效率时需要考虑。
+*
+* - d 叉堆（d-ary heap）：
+*   - 二叉堆只是 d = 2 的特例。每个节点可以有 d 个孩子，用数组表示时：
+*     - 第一个孩子的索引: d * i + 1，最后一个孩子的索引: d * i + d
+*     - 父节点的索引: (i - 1) / d
+*   - 树高变成 log_d(n)，因此 siftUp（insert）比二叉堆快；siftDown（extractMax）每层要在 d 个孩子中找最大值，比较次数是
+*     d * log_d(n)，但一个节点的 d 个孩子在数组中是连续存放的，通常在同一个或相邻的缓存行里，访存次数反而更少。
+*     因此在实践中 4 叉堆通常比二叉堆更快。通过 MaxHeap(capacity, d) 指定 d，默认是2。
+*   - 另外 siftUp、siftDown 不再每一层都 swap（每次 swap 是3次赋值），而是先把待调整的元素拿出来，把路径上的元素逐个
+*     挪到空位上，最后再把该元素放到最终位置上（每层1次赋值）。
+*
+* - 对于 int、long 类型的元素，MaxHeap<Integer> 中的每个元素都是装箱后的对象，比较时需要通过 compareTo 虚方法调用并跳转
+*   到堆上的对象，SEE: IntMaxHeap、LongMaxHeap。
+*
+* - 批量操作：
+*   - insertAll：向 n 个元素的堆中逐个 insert k 个元素是 O(klog(n+k))，而把这 k 个元素追加到数组末尾后整体 heapify 是
+*     O(n+k)。因此 k 较小时逐个 siftUp，k 较大（klog(n+k) > n+k）时直接对整个数组重新 heapify。
+*   - merge：把另一个堆的所有元素 insertAll 进来（另一个堆不变）。
+*   - heapSort：原地堆排序。每次把堆顶（当前最大值）与堆的最后一个元素交换，堆的范围缩小1，再对新的堆顶 siftDown。
+*     整个过程只在底层数组内交换元素，不需要额外空间，复杂度 O(nlogn)。排序完成后堆被清空，排好序的数组作为返回值交出去。
 * */
 
 import Array.Array;
 
 public class MaxHeap<E extends Comparable<E>> {
     private Array<E> data;
+    private final int d;  // 每个节点最多有几个孩子，默认是二叉堆
 
-    public MaxHeap(int capacity) { data = new Array<E>(capacity); }
+    public MaxHeap(int capacity, int d) {
+        if (d < 2)
+            throw new IllegalArgumentException("d must be >= 2");
+        data = new Array<E>(capacity);
+        this.d = d;
+    }
 
-    public MaxHeap() { data = new Array<E>(); }
+    public MaxHeap(int capacity) { this(capacity, 2); }
 
-    public MaxHeap(E[] arr) {  // 通过任意数组生成一个最大堆的构造函数（即 heapify 过程）
+    public MaxHeap() { this(10); }
+
+    public MaxHeap(E[] arr) { this(arr, 2); }
+
+    public MaxHeap(E[] arr, int d) {  // 通过任意数组生成一个最大堆的构造函数（即 heapify 过程）
+        if (d < 2)
+            throw new IllegalArgumentException("d must be >= 2");
+        this.d = d;
         data = new Array<E>(arr);  // 先将传入数组转换成我们动态数组（需要给 Array 添加一个新的构造器）
-        int lastNonLeafNodeIndex = getParentIndex(getSize() - 1);  // 找到最后一个非叶子节点的索引（即最后一个节点的父节点的索引）
-        for (int i = lastNonLeafNodeIndex; i >= 0; i--)  // 从最后一个非叶子节点向前遍历，对每个非叶子节点进行 siftDown
-            siftDown(i);
+        heapify();
     }
 
     /*
@@ -80,38 +111,64 @@ public class MaxHeap<E extends Comparable<E>> {
     private int getParentIndex(int index) {  // 返回用数组实现的完全二叉树中，一个索引处的元素在树中的父节点的索引
         if (index == 0)
             new IllegalArgumentException("parent failed. The element at index 0 doesn't have parent.");
-        return (index - 1) / 2;  // 整型除法，小数会被抹去
-    }
-
-    private int getLeftChildIndex(int index) {  // 返回用数组实现的完全二叉树中，一个索引处的元素在树中的左孩子的索引
-        return index * 2 + 1;
+        return (index - 1) / d;  // 整型除法，小数会被抹去
     }
 
-    private int getRightChildIndex(int index) {  // 返回用数组实现的完全二叉树中，一个索引处的元素在树中的右孩子的索引
-        return getLeftChildIndex(index) + 1;
+    private int getFirstChildIndex(int index) {  // 返回用数组实现的完全 d 叉树中，一个索引处的元素在树中的第一个孩子的索引（其余孩子紧随其后）
+        return index * d + 1;
     }
 
     private void siftUp(int k) {
-        while (k > 0 && data.get(getParentIndex(k)).compareTo(data.get(k)) < 0) {  // 若父节点值大于子节点值则停止 sift up
-            data.swap(k, getParentIndex(k));
+        E e = data.get(k);
+        while (k > 0 && data.get(getParentIndex(k)).compareTo(e) < 0) {  // 若父节点值大于等于 e 则停止 sift up
+            data.set(k, data.get(getParentIndex(k)));  // 父节点下移到空位上，空位上移
             k = getParentIndex(k);
         }
+        data.set(k, e);
     }
 
-    private void siftDown(int k) {  // 用于 extract, replace, heapify 操作中
-        while (getLeftChildIndex(k) < getSize()) {  // 只要左孩子的索引 < 元素个数就说明还没到达叶子节点，可以继续循环
-            // 找到位于 k 的节点的左右孩子中较大的那个的索引
-            int i = getLeftChildIndex(k);
-            if (i + 1 < getSize() && data.get(i + 1).compareTo(data.get(i)) > 0)  // i+1 是右孩子的索引，i+1 < getSize() 是要保证有右孩子
-                i += 1;  // i 保存了左右孩子中值较大的那个的索引
-
-            // 用父节点与较大的那个比，如果父节点大则 break loop，否则 swap（只有用较大的子节点跟父节点比才能保证 swap 之后换上来的新父节点比两个子节点都大，保证最大堆性质不被破坏）
-            if (data.get(k).compareTo(data.get(i)) >= 0)
+    private void siftDown(int k) { siftDown(k, getSize()); }  // 用于 extract, replace, heapify 操作中
+
+    private void siftDown(int k, int n) {  // 只在数组的 [0, n) 范围内 siftDown（heapSort 中数组后部是已排好序的元素）
+        if (k >= n)  // 堆为空（如 extractMax 取出了最后一个元素）
+            return;
+        E e = data.get(k);
+        while (getFirstChildIndex(k) < n) {  // 只要第一个孩子的索引 < 元素个数就说明还没到达叶子节点，可以继续循环
+            // 找到位于 k 的节点的所有孩子中最大的那个的索引
+            int i = getFirstChildIndex(k);
+            int last = Math.min(i + d, n);  // 孩子的索引范围是 [i, last)，最后一个非叶子节点的孩子可能不满 d 个
+            for (int j = i + 1; j < last; j++)
+                if (data.get(j).compareTo(data.get(i)) > 0)
+                    i = j;  // i 保存了孩子中值最大的那个的索引
+
+            // 用 e 与最大的孩子比，如果 e 大则 break loop，否则最大的孩子上移（只有用最大的子节点跟父节点比才能保证换上来的新父节点比所有子节点都大，保证最大堆性质不被破坏）
+            if (e.compareTo(data.get(i)) >= 0)
                 break;
 
-            data.swap(k, i);
+            data.set(k, data.get(i));
             k = i;  // 记得最后要让 while 循环进入下一轮
         }
+        data.set(k, e);
+    }
+
+    private void heapify() {
+        if (getSize() <= 1)
+            return;
+        int lastNonLeafNodeIndex = getParentIndex(getSize() - 1);  // 找到最后一个非叶子节点的索引（即最后一个节点的父节点的索引）
+        for (int i = lastNonLeafNodeIndex; i >= 0; i--)  // 从最后一个非叶子节点向前遍历，对每个非叶子节点进行 siftDown
+            siftDown(i);
+    }
+
+    private void fixAppended(int oldSize) {  // 数组的 [oldSize, size) 是新追加的元素，恢复堆的性质
+        int n = getSize(), k = n - oldSize;
+        if (k == 0)
+            return;
+        int logN = 32 - Integer.numberOfLeadingZeros(n);  // 约为 log2(n)，比 Math.log 快
+        if ((long) k * logN > n)
+            heapify();
+        else
+            for (int i = oldSize; i < n; i++)
+                siftUp(i);
     }
 
     /*
@@ -122,6 +179,20 @@ public class MaxHeap<E extends Comparable<E>> {
         siftUp(getSize() - 1);  // 上浮，添加节点不能破坏前面说的二叉堆的第二个性质，因此要与该节点路径上的祖先节点一一比较，如果大于祖先节点则交换
     }
 
+    public void insertAll(E[] batch) {  // 批量添加：先整体追加到数组末尾（只需1次扩容和拷贝），再根据批量大小选择 siftUp 或 heapify
+        int oldSize = getSize();
+        data.addAll(batch);
+        fixAppended(oldSize);
+    }
+
+    public void merge(MaxHeap<E> other) {  // 将另一个堆中的所有元素添加进来，other 不变
+        int oldSize = getSize(), m = other.getSize();  // 先记下 other 的大小（other 可能就是 this）
+        data.ensureCapacity(oldSize + m);
+        for (int i = 0; i < m; i++)
+            data.addLast(other.data.get(i));
+        fixAppended(oldSize);
+    }
+
     /*
      * 取操作
      * - 最大值永远都在堆顶上，因此取出最大值后需要填补树顶上的节点。这里的策略是取数组的最后一个元素填补上，然后再对其进行下沉操作，
@@ -156,6 +227,19 @@ public class MaxHeap<E extends Comparable<E>> {
 
     public boolean isEmpty() { return data.isEmpty(); }
 
+    /*
+    * 排序
+    * */
+    public Array<E> heapSort() {  // 原地堆排序，返回从小到大排好序的底层数组，堆被清空
+        for (int n = getSize() - 1; n > 0; n--) {
+            data.swap(0, n);  // 当前最大值放到 [0, n] 的末尾，即它排序后的最终位置
+            siftDown(0, n);   // 在剩下的 [0, n) 中恢复堆的性质
+        }
+        Array<E> sorted = data;
+        data = new Array<E>();
+        return sorted;
+    }
+
     /*
     * Misc
     * */
@@ -30,5 +30,14 @@ public class MaxHeapTest {
         MaxHeap<Integer> heap2 = new MaxHeap<Integer>(inputSeq);  // inputSeq 的类型不能写成 int[]，java 不支持
         System.out.println("inputSeq: " + Arrays.toString(inputSeq));
         System.out.println("heapified: " + heap2.toString());
+
+        // 测试 insertAll、merge
+        heap2.insertAll(new Integer[]{5, 50, 25});
+        MaxHeap<Integer> heap3 = new MaxHeap<Integer>(new Integer[]{1, 99, 7});
+        heap2.merge(heap3);
+        System.out.println("after insertAll and merge: " + heap2.toString());
+
+        // 测试原地堆排序
+        System.out.println("heapSorted: " + heap2.heapSort());
     }
 }
@@ -12,6 +12,10 @@ import java.util.Random;
 *   - 第2种方法里，对于 n 个元素的时间复杂度是 O(n)。（证明比较复杂）
 *
 * - 通过测试结果可见，在这台计算机上，heapify 的方法要比 insert 的方法快近两倍（已经是一个质的飞跃了）。
+*
+* - testBatchInsert 测试向已有 n 个元素的堆中再添加 n 个元素：逐个 insert 是 O(nlogn)，insertAll 会整体 heapify，是 O(n)。
+*
+* - testHeapOps 测试 insert + extractMax 的总时间，对比二叉堆、4叉堆，以及不需要装箱的 IntMaxHeap。
 * */
 
 public class PerformanceTest {
@@ -32,6 +36,42 @@ public class PerformanceTest {
         return (endTime - startTime) / 1000000000.0;
     }
 
+    private static double testBatchInsert(Integer[] testData, boolean isBatch) {
+        MaxHeap<Integer> heap = new MaxHeap<Integer>(testData);
+
+        double startTime = System.nanoTime();
+
+        if (isBatch)
+            heap.insertAll(testData);
+        else
+            for (Integer num : testData)
+                heap.insert(num);
+
+        double endTime = System.nanoTime();
+        return (endTime - startTime) / 1000000000.0;
+    }
+
+    private static double testHeapOps(int[] testData, int d, boolean isPrimitive) {
+        double startTime = System.nanoTime();
+
+        if (isPrimitive) {
+            IntMaxHeap heap = new IntMaxHeap(10, d);
+            for (int num : testData)
+                heap.insert(num);
+            while (!heap.isEmpty())
+                heap.extractMax();
+        } else {
+            MaxHeap<Integer> heap = new MaxHeap<Integer>(10, d);
+            for (int num : testData)
+                heap.insert(num);
+            while (!heap.isEmpty())
+                heap.extractMax();
+        }
+
+        double endTime = System.nanoTime();
+        return (endTime - startTime) / 1000000000.0;
+    }
+
     public static void main(String[] args) {
         int n = 1000000;
         Integer[] testData = new Integer[n];
@@ -44,6 +84,18 @@ public class PerformanceTest {
         System.out.println("Generate heap by adding: " + t2 + " s");
 
         double t1 = PerformanceTest.testHeap(testData, true);
-        System.out.println("Generate heap by heapifing an array: " + t1 + " s");
+        System.out.println("Generate heap by heapifing an array: " + t1 + " s\n");
+
+        System.out.println("Batch insert by insert: " + testBatchInsert(testData, false) + " s");
+        System.out.println("Batch insert by insertAll: " + testBatchInsert(testData, true) + " s\n");
+
+        int[] primitiveData = new int[n];
+        for (int i = 0; i < n; i++)
+            primitiveData[i] = testData[i];
+
+        System.out.println("MaxHeap<Integer>, d = 2: " + testHeapOps(primitiveData, 2, false) + " s");
+        System.out.println("MaxHeap<Integer>, d = 4: " + testHeapOps(primitiveData, 4, false) + " s");
+        System.out.println("IntMaxHeap, d = 2: " + testHeapOps(primitiveData, 2, true) + " s");
+        System.out.println("IntMaxHeap, d = 4: " + testHeapOps(primitiveData, 4, true) + " s");
     }
 }
@@ -0,0 +1,155 @@
+package MaxHeap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+
+/*
+ * - 流式 Top K：在源源不断的元素中维护分数（score）最大的 k 个元素，SEE: L347_Top_K_Frequent_Elements。
+ *   - 与 L347 中的思路一样，用一个容量为 k 的最小堆：堆顶是当前第 k 大的分数，即"门槛"（floor）。新元素的分数 <= 门槛时
+ *     直接丢弃，否则替换掉堆顶再 siftDown。总复杂度 O(nlogk)，而且在 n >> k 时绝大多数元素在第一次比较时就被丢弃了。
+ *
+ * - 与 L347 中用 PriorityQueue<Frequency> 的写法相比：
+ *   - 分数用 long 单独存放（elements[] 与 scores[] 是两个平行的数组），元素本身只是被引用，不需要为每个候选元素创建一个
+ *     Frequency 这样的包装对象；
+ *   - 丢弃元素的路径只是一次 long 之间的比较，不装箱、不分配内存、也没有 Comparator 的虚方法调用；
+ *   - 两个数组在构造时一次性分配好，之后不再扩容。
+ *
+ * - 并行：每个线程各自维护一个 TopK，最后用 merge 合并（合并结果一定包含全局的 Top K，因为全局 Top K 中的每个元素一定
+ *   也在它所在那一部分的 Top K 里）。toTopK 返回的 Collector 就是这样实现的，因此可以直接用于并行流：
+ *     List<String> top = words.parallelStream().collect(TopK.toTopK(10, String::length));
+ *
+ * - 分数相同时先到的元素优先保留。
+ * */
+
+public class TopK<E> {
+    private final E[] elements;
+    private final long[] scores;  // scores[i] 是 elements[i] 的分数，两个数组一起构成一个以分数为优先级的最小堆
+    private int size;
+
+    public TopK(int k) {
+        if (k <= 0)
+            throw new IllegalArgumentException("k must be positive");
+        elements = (E[]) new Object[k];
+        scores = new long[k];
+        size = 0;
+    }
+
+    /*
+     * 辅助方法
+     * */
+    private void siftUp(int k, E e, long score) {  // 与 MaxHeap 一样，移动空位而不是每层 swap
+        while (k > 0 && scores[(k - 1) / 2] > score) {
+            int parent = (k - 1) / 2;
+            elements[k] = elements[parent];
+            scores[k] = scores[parent];
+            k = parent;
+        }
+        elements[k] = e;
+        scores[k] = score;
+    }
+
+    private void siftDown(int k, E e, long score) {
+        while (2 * k + 1 < size) {
+            int i = 2 * k + 1;
+            if (i + 1 < size && scores[i + 1] < scores[i])
+                i++;
+            if (score <= scores[i])
+                break;
+            elements[k] = elements[i];
+            scores[k] = scores[i];
+            k = i;
+        }
+        elements[k] = e;
+        scores[k] = score;
+    }
+
+    /*
+     * 增操作
+     * */
+    public boolean offer(E e, long score) {  // 返回 e 是否进入了 Top K
+        if (size < elements.length) {
+            siftUp(size++, e, score);
+            return true;
+        }
+        if (score <= scores[0])  // 不超过门槛，直接丢弃（最常见的路径）
+            return false;
+        siftDown(0, e, score);   // 替换掉堆顶（当前第 k 名）
+        return true;
+    }
+
+    public TopK<E> merge(TopK<E> other) {  // 将另一个 TopK 中的元素合并进来，返回 this
+        for (int i = 0; i < other.size; i++)
+            offer(other.elements[i], other.scores[i]);
+        return this;
+    }
+
+    /*
+     * 查操作
+     * */
+    public long getFloor() {  // 新元素的分数必须大于该值才能进入 Top K（未满 k 个时任何元素都能进入）
+        return size < elements.length ? Long.MIN_VALUE : scores[0];
+    }
+
+    public int getSize() { return size; }
+
+    public int getCapacity() { return elements.length; }
+
+    public boolean isEmpty() { return size == 0; }
+
+    public List<E> toList() {  // 按分数从大到小返回，不改变 TopK 本身
+        E[] es = elements.clone();
+        long[] ss = scores.clone();
+        List<E> result = new ArrayList<E>(size);
+        for (int n = size; n > 0; n--) {  // 在拷贝上逐个取出堆顶（最小值），再整体反转
+            result.add(es[0]);
+            E last = es[n - 1];
+            long lastScore = ss[n - 1];
+            int k = 0;
+            while (2 * k + 1 < n - 1) {
+                int i = 2 * k + 1;
+                if (i + 1 < n - 1 && ss[i + 1] < ss[i])
+                    i++;
+                if (lastScore <= ss[i])
+                    break;
+                es[k] = es[i];
+                ss[k] = ss[i];
+                k = i;
+            }
+            es[k] = last;
+            ss[k] = lastScore;
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /*
+     * Collector
+     * */
+    public static <E> Collector<E, TopK<E>, List<E>> toTopK(int k, ToLongFunction<? super E> scorer) {
+        return Collector.of(
+                () -> new TopK<E>(k),
+                (top, e) -> top.offer(e, scorer.applyAsLong(e)),
+                TopK::merge,
+                TopK::toList);
+    }
+
+    /*
+     * Misc
+     * */
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder();
+        s.append(String.format("TopK: size = %d, k = %d\n", size, elements.length));
+        s.append("[");
+        for (int i = 0; i < size; i++) {
+            s.append(elements[i]).append(": ").append(scores[i]);
+            if (i != size - 1)
+                s.append(", ");
+        }
+        s.append("]\n");
+        return s.toString();
+    }
+}
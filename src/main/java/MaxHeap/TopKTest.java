@@ -0,0 +1,31 @@
+package MaxHeap;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+public class TopKTest {
+    public static void main(String[] args) {
+        // 测试 offer：分数不超过门槛的元素被直接丢弃
+        TopK<String> top = new TopK<String>(3);
+        String[] words = {"heap", "a", "priority", "queue", "be", "collector", "top"};
+        for (String word : words)
+            System.out.println("offer " + word + ": " + top.offer(word, word.length()) + ", floor = " + top.getFloor());
+        System.out.println(top);
+        System.out.println("toList: " + top.toList() + "\n");
+
+        // 测试 Collector：在并行流中每个线程各自统计 Top K，最后 merge
+        int n = 1000000;
+        Random random = new Random();
+        int[] nums = new int[n];
+        for (int i = 0; i < n; i++)
+            nums[i] = random.nextInt(Integer.MAX_VALUE);
+
+        List<Integer> result = IntStream.of(nums).boxed().parallel().collect(TopK.toTopK(5, Integer::longValue));
+        int[] sorted = nums.clone();
+        Arrays.sort(sorted);
+        System.out.println("parallel stream top 5: " + result);
+        System.out.println("expected (ascending):  " + Arrays.toString(Arrays.copyOfRange(sorted, n - 5, n)));
+    }
+}
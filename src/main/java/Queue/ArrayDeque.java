@@ -0,0 +1,220 @@
+package Queue;
+
+import java.util.Arrays;
+
+/*
+ * - 双端队列（deque, double-ended queue）：两端都可以 O(1) 地添加和删除元素，因此既可以当作栈使用，也可以当作队列使用。
+ *   - 作为栈（Stack.Stack）：push、pop、peek 都在队首进行（与 java.util.ArrayDeque 一致）；
+ *   - 作为队列（Queue.Queue）：enqueue 在队尾进行，dequeue、getFront 在队首进行。
+ *   因此同一个容器中 push 进去的元素和 enqueue 进去的元素都从队首取出，如爬虫中深度优先的链接 push、广度优先的链接 enqueue。
+ *
+ * - 对比：
+ *   - ArrayQueue 的 dequeue 是 Array.removeFirst，需要把所有元素前移一位，是 O(n) 的；
+ *   - LoopQueue 只能从一端进、另一端出，并且下标每一步都要 % data.length；
+ *   - ArrayDeque 同样是循环数组，但容量始终是2的幂，下标用 & mask 计算，向前一步 (i - 1) & mask 也不会出现负数。
+ *
+ * - 实现：head 指向队首元素，队尾元素在 (head + size - 1) & mask：
+ *       addFirst(x): head 向前移一位，再写入          |c|d| | | | |a|b|    head = 6, size = 4
+ *       addLast(x) : 写入 (head + size) & mask                   ↑
+ *                                                               head
+ * - 批量操作：pushAll、enqueueAll、popAll 只检查一次容量，enqueueAll、popAll 最多分两段用 System.arraycopy 拷贝（数组的
+ *   尾部和头部），而不是逐个元素地计算下标。
+ * - 不允许 null 元素（pollFirst、pollLast 用 null 表示双端队列为空）。
+ * */
+
+public class ArrayDeque<E> implements Stack.Stack<E>, Queue<E> {
+    private E[] data;
+    private int head;
+    private int size;
+
+    public ArrayDeque(int capacity) {
+        if (capacity < 0 || capacity > (1 << 30))
+            throw new IllegalArgumentException("capacity must be in [0, 2^30]");
+        int cap = Math.max(Integer.highestOneBit(capacity), 8);  // 向上取整为2的幂，最小为8
+        if (cap < capacity)
+            cap <<= 1;
+        data = (E[]) new Object[cap];
+        head = size = 0;
+    }
+
+    public ArrayDeque() { this(16); }
+
+    /*
+     * 辅助方法
+     * */
+    private int mask() { return data.length - 1; }
+
+    private void checkNotNull(E e) {
+        if (e == null)
+            throw new IllegalArgumentException("Null element is not allowed.");
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= data.length)
+            return;
+        int newCapacity = data.length;
+        while (newCapacity < minCapacity)
+            newCapacity <<= 1;
+        E[] newData = (E[]) new Object[newCapacity];
+        copyOut(0, newData, 0, size);  // 按从队首到队尾的顺序拷贝到新数组的开头
+        data = newData;
+        head = 0;
+    }
+
+    private void copyOut(int from, E[] dst, int dstFrom, int len) {  // 把第 [from, from + len) 个元素（从队首数起）拷贝到 dst 中
+        int start = (head + from) & mask();
+        int firstPart = Math.min(len, data.length - start);  // 从 start 到数组末尾的这一段
+        System.arraycopy(data, start, dst, dstFrom, firstPart);
+        System.arraycopy(data, 0, dst, dstFrom + firstPart, len - firstPart);  // 绕回数组开头的这一段
+    }
+
+    /*
+     * 增操作
+     * */
+    public void addFirst(E e) {
+        checkNotNull(e);
+        ensureCapacity(size + 1);
+        head = (head - 1) & mask();
+        data[head] = e;
+        size++;
+    }
+
+    public void addLast(E e) {
+        checkNotNull(e);
+        ensureCapacity(size + 1);
+        data[(head + size) & mask()] = e;
+        size++;
+    }
+
+    @Override
+    public void push(E e) { addFirst(e); }
+
+    @Override
+    public void enqueue(E e) { addLast(e); }
+
+    public void pushAll(E[] src) {  // 依次 push src 中的元素，最后一个元素位于栈顶
+        for (E e : src)
+            checkNotNull(e);
+        ensureCapacity(size + src.length);
+        for (E e : src) {
+            head = (head - 1) & mask();
+            data[head] = e;
+        }
+        size += src.length;
+    }
+
+    public void enqueueAll(E[] src) {  // 依次 enqueue src 中的元素
+        for (E e : src)
+            checkNotNull(e);
+        ensureCapacity(size + src.length);
+        int start = (head + size) & mask();
+        int firstPart = Math.min(src.length, data.length - start);
+        System.arraycopy(src, 0, data, start, firstPart);
+        System.arraycopy(src, firstPart, data, 0, src.length - firstPart);
+        size += src.length;
+    }
+
+    /*
+     * 删操作
+     * */
+    public E pollFirst() {  // 双端队列为空时返回 null
+        if (size == 0)
+            return null;
+        E ret = data[head];
+        data[head] = null;
+        head = (head + 1) & mask();
+        size--;
+        return ret;
+    }
+
+    public E pollLast() {
+        if (size == 0)
+            return null;
+        int tail = (head + size - 1) & mask();
+        E ret = data[tail];
+        data[tail] = null;
+        size--;
+        return ret;
+    }
+
+    public E removeFirst() {
+        if (isEmpty())
+            throw new IllegalArgumentException("removeFirst failed. Deque is empty.");
+        return pollFirst();
+    }
+
+    public E removeLast() {
+        if (isEmpty())
+            throw new IllegalArgumentException("removeLast failed. Deque is empty.");
+        return pollLast();
+    }
+
+    @Override
+    public E pop() { return removeFirst(); }
+
+    @Override
+    public E dequeue() { return removeFirst(); }
+
+    public int popAll(E[] dst) {  // 依次 pop 最多 dst.length 个元素到 dst 中（dst[0] 是原来的栈顶），返回 pop 的个数
+        int n = Math.min(size, dst.length);
+        copyOut(0, dst, 0, n);
+        int firstPart = Math.min(n, data.length - head);  // 清空被取出的位置，释放引用
+        Arrays.fill(data, head, head + firstPart, null);
+        Arrays.fill(data, 0, n - firstPart, null);
+        head = (head + n) & mask();
+        size -= n;
+        return n;
+    }
+
+    /*
+     * 查操作
+     * */
+    public E peekFirst() { return size == 0 ? null : data[head]; }
+
+    public E peekLast() { return size == 0 ? null : data[(head + size - 1) & mask()]; }
+
+    @Override
+    public E peek() {
+        if (isEmpty())
+            throw new IllegalArgumentException("peek failed. Deque is empty.");
+        return peekFirst();
+    }
+
+    @Override
+    public E getFront() {
+        if (isEmpty())
+            throw new IllegalArgumentException("getFront failed. Deque is empty.");
+        return peekFirst();
+    }
+
+    public E get(int index) {  // 从队首数起的第 index 个元素
+        if (index < 0 || index >= size)
+            throw new IllegalArgumentException("get failed. Index is illegal.");
+        return data[(head + index) & mask()];
+    }
+
+    @Override
+    public int getSize() { return size; }
+
+    public int getCapacity() { return data.length; }
+
+    @Override
+    public boolean isEmpty() { return size == 0; }
+
+    /*
+     * Misc
+     * */
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder();
+        s.append(String.format("Size = %d, Capacity = %d\n", size, data.length));
+        s.append("first [");
+        for (int i = 0; i < size; i++) {
+            s.append(get(i));
+            if (i != size - 1)
+                s.append(", ");
+        }
+        s.append("] last\n");
+        return s.toString();
+    }
+}
@@ -0,0 +1,29 @@
+package Queue;
+
+import java.util.Arrays;
+
+class ArrayDequeTest {
+    public static void main(String[] args) {
+        ArrayDeque<Integer> deque = new ArrayDeque<Integer>(8);
+
+        // 当作队列使用：从队尾进，从队首出
+        for (int i = 0; i < 5; i++)
+            deque.enqueue(i);
+        System.out.println("enqueued 0 ~ 4: " + deque);
+
+        // 当作栈使用：从队首进，从队首出（队首绕到了数组的末尾）
+        deque.push(-1);
+        deque.push(-2);
+        System.out.println("pushed -1, -2: " + deque);
+        System.out.println("pop: " + deque.pop() + ", dequeue: " + deque.dequeue() + ", pollLast: " + deque.pollLast() + "\n");
+
+        // 批量操作（会触发扩容）
+        deque.pushAll(new Integer[]{10, 11, 12});
+        deque.enqueueAll(new Integer[]{20, 21, 22, 23, 24, 25});
+        System.out.println("pushAll [10, 11, 12], enqueueAll [20 ~ 25]: " + deque);
+
+        Integer[] popped = new Integer[4];
+        int n = deque.popAll(popped);
+        System.out.println("popAll " + n + ": " + Arrays.toString(popped) + ", " + deque);
+    }
+}
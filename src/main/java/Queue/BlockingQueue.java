@@ -0,0 +1,228 @@
+package Queue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * - 阻塞队列：包装一个普通的 Queue（LoopQueue、LinkedListQueue 等），使其线程安全并且可以阻塞等待：
+ *   - take：队列为空时等待，直到有元素可取（消费者不再需要不停地检查 isEmpty 或者 sleep）；
+ *   - put：队列已满（达到 capacity）时根据背压策略（OverflowPolicy）处理：
+ *       BLOCK        等待，直到有空位（生产者被拖慢到和消费者一样的速度）
+ *       DROP_OLDEST  丢弃队首（最老的）元素，为新元素腾出位置（适合只关心最新数据的场景，如行情、监控指标）
+ *       DROP_NEWEST  丢弃新元素，队列不变（适合宁可丢数据也不能拖慢生产者的场景，如日志）
+ *     被丢弃的元素个数可以通过 getDroppedCount 获得；
+ *   - offer、poll：不阻塞，立即返回是否成功；带 timeout 的版本最多等待指定的时间。
+ *   - Queue 接口中的 enqueue、dequeue、getFront 保持原来的语义，不阻塞：队列已满（BLOCK 策略）/为空时抛出异常。
+ *
+ * - 实现：与 java.util.concurrent.ArrayBlockingQueue 一样，用一把 ReentrantLock 保护底层队列，用两个 Condition（notEmpty、
+ *   notFull）分别让消费者和生产者等待。
+ *   - 等待时线程通过 LockSupport.park 挂起，不占用 CPU。等待在同一个 Condition 上的线程排成一个链表，每次 signal 只唤醒
+ *     其中一个，因此成千上万个消费者等待同一个队列时，每放入一个元素也只会唤醒一个消费者（不会出现惊群效应）。
+ *   - 不使用 synchronized + wait/notify：在支持虚拟线程（virtual thread）的 JDK 上，虚拟线程在 synchronized 块中阻塞时
+ *     会钉住（pin）它所在的载体线程（carrier thread），而通过 ReentrantLock、Condition 等待时只会挂起虚拟线程本身。
+ *     本项目基于 Java 8，没有虚拟线程，但用 j.u.c 的锁实现可以保证在新的 JDK 上同样适用。
+ * */
+
+public class BlockingQueue<E> implements Queue<E> {
+    public enum OverflowPolicy { BLOCK, DROP_OLDEST, DROP_NEWEST }
+
+    private final Queue<E> queue;
+    private final int capacity;
+    private final OverflowPolicy policy;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private long droppedCount;
+
+    public BlockingQueue(Queue<E> queue, int capacity, OverflowPolicy policy) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("capacity must be positive");
+        if (!queue.isEmpty())
+            throw new IllegalArgumentException("The wrapped queue must be empty");
+        this.queue = queue;
+        this.capacity = capacity;
+        this.policy = policy;
+        droppedCount = 0;
+    }
+
+    public BlockingQueue(Queue<E> queue, int capacity) { this(queue, capacity, OverflowPolicy.BLOCK); }
+
+    public BlockingQueue(int capacity) { this(new LoopQueue<E>(), capacity); }
+
+    /*
+     * 辅助方法（调用前必须持有 lock）
+     * */
+    private boolean isFull() { return queue.getSize() >= capacity; }
+
+    private boolean insert(E e) {  // 队列已满时按背压策略处理，返回 e 是否进入了队列
+        if (isFull()) {
+            if (policy == OverflowPolicy.DROP_NEWEST) {
+                droppedCount++;
+                return false;
+            }
+            queue.dequeue();  // DROP_OLDEST（BLOCK 策略在调用前已经等到了空位）
+            droppedCount++;
+        }
+        queue.enqueue(e);
+        notEmpty.signal();
+        return true;
+    }
+
+    private E extract() {
+        E e = queue.dequeue();
+        notFull.signal();
+        return e;
+    }
+
+    /*
+     * 增操作
+     * */
+    public boolean put(E e) throws InterruptedException {  // 返回 e 是否进入了队列（只有 DROP_NEWEST 策略下会返回 false）
+        lock.lockInterruptibly();
+        try {
+            while (policy == OverflowPolicy.BLOCK && isFull())
+                notFull.await();
+            return insert(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {  // 最多等待 timeout，超时返回 false
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (policy == OverflowPolicy.BLOCK && isFull()) {
+                if (nanos <= 0)
+                    return false;
+                nanos = notFull.awaitNanos(nanos);  // 返回剩余的等待时间（被提前唤醒但条件仍不满足时继续等待）
+            }
+            return insert(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean offer(E e) {  // 不阻塞：BLOCK 策略下队列已满时直接返回 false
+        lock.lock();
+        try {
+            if (policy == OverflowPolicy.BLOCK && isFull())
+                return false;
+            return insert(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void enqueue(E e) {
+        lock.lock();
+        try {
+            if (policy == OverflowPolicy.BLOCK && isFull())
+                throw new IllegalArgumentException("enqueue failed. Queue is full.");
+            insert(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /*
+     * 删操作
+     * */
+    public E take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (queue.isEmpty())
+                notEmpty.await();
+            return extract();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {  // 最多等待 timeout，超时返回 null
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (queue.isEmpty()) {
+                if (nanos <= 0)
+                    return null;
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return extract();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public E poll() {  // 不阻塞：队列为空时返回 null
+        lock.lock();
+        try {
+            return queue.isEmpty() ? null : extract();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E dequeue() {
+        lock.lock();
+        try {
+            if (queue.isEmpty())
+                throw new IllegalArgumentException("dequeue failed. Empty queue");
+            return extract();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /*
+     * 查操作
+     * */
+    @Override
+    public E getFront() {
+        lock.lock();
+        try {
+            return queue.getFront();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getSize() {
+        lock.lock();
+        try {
+            return queue.getSize();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() { return getSize() == 0; }
+
+    public int getCapacity() { return capacity; }
+
+    public OverflowPolicy getPolicy() { return policy; }
+
+    public long getDroppedCount() {
+        lock.lock();
+        try {
+            return droppedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        lock.lock();
+        try {
+            return String.format("BlockingQueue: capacity = %d, policy = %s, dropped = %d\n", capacity, policy, droppedCount) + queue;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package Queue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class BlockingQueueTest {
+    public static void main(String[] args) throws InterruptedException {
+        // 测试三种背压策略：容量为3，依次放入 0 ~ 5
+        for (BlockingQueue.OverflowPolicy policy : BlockingQueue.OverflowPolicy.values()) {
+            BlockingQueue<Integer> q = new BlockingQueue<Integer>(new LinkedListQueue<Integer>(), 3, policy);
+            for (int i = 0; i < 6; i++)
+                q.offer(i);
+            System.out.println(q);
+        }
+        System.out.println();
+
+        // 测试超时
+        BlockingQueue<Integer> empty = new BlockingQueue<Integer>(3);
+        long startTime = System.nanoTime();
+        Integer e = empty.poll(100, TimeUnit.MILLISECONDS);
+        System.out.println(String.format("poll on empty queue: %s after %.0f ms\n", e, (System.nanoTime() - startTime) / 1e6));
+
+        // 测试大量消费者等待同一个队列：2000 个消费者线程阻塞在 take 上，一个生产者通过容量为 16 的队列（BLOCK 策略）
+        // 放入 20 万个元素，检查每个元素都被恰好取走一次
+        int nConsumers = 2000, n = 200000;
+        BlockingQueue<Integer> q = new BlockingQueue<Integer>(new LoopQueue<Integer>(), 16);
+        AtomicLong sum = new AtomicLong();
+        List<Thread> consumers = new ArrayList<Thread>();
+        for (int t = 0; t < nConsumers; t++) {
+            Thread consumer = new Thread(() -> {
+                try {
+                    while (true) {
+                        int x = q.take();
+                        if (x < 0)  // 结束标记
+                            return;
+                        sum.addAndGet(x);
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            consumer.start();
+            consumers.add(consumer);
+        }
+
+        startTime = System.nanoTime();
+        for (int i = 0; i < n; i++)
+            q.put(i);
+        for (int t = 0; t < nConsumers; t++)
+            q.put(-1);
+        for (Thread consumer : consumers)
+            consumer.join();
+        double time = (System.nanoTime() - startTime) / 1e9;
+
+        System.out.println(String.format("%d consumers, %d elements: %.3f s, correct: %b",
+                nConsumers, n, time, sum.get() == (long) n * (n - 1) / 2));
+    }
+}
@@ -0,0 +1,155 @@
+package Queue;
+
+/*
+ * - 分段数组队列：把固定大小的数组（段，segment）串成一个链表，兼顾 LinkedListQueue 和 LoopQueue 的优点：
+ *   - LinkedListQueue 每次 enqueue 都要创建一个 Node，每个元素额外占用一个对象头和一个 next 指针，节点在内存中也不连续；
+ *   - LoopQueue 在已满时扩容、在 1/4 满时缩容，每次都要把所有元素拷贝到新数组中，单次操作的耗时在阈值处会突然变成 O(n)
+ *     （均摊是 O(1)，但对延迟敏感的场景来说，这种周期性的停顿是不可接受的）。
+ *
+ * - 实现：
+ *                 head                                  tail
+ *                  ↓                                     ↓
+ *     [ | | |c|d|e|f] -> [g|h|i|j|k|l|m] -> [n|o|p| | | | ]
+ *            ↑                                     ↑
+ *        headIndex                             tailIndex
+ *   - enqueue：写入 tail 段的 tailIndex 位置，tail 段写满时在后面挂一个新段；
+ *   - dequeue：读出 head 段的 headIndex 位置，head 段读完时把它摘下来，放进段池（pool）中回收；
+ *   - 已有的元素永远不会被移动或拷贝，因此每次操作都是严格的 O(1)，而不只是均摊 O(1)；
+ *   - 段内是连续的数组，遍历时有和数组一样的局部性；每 chunkSize 个元素才分配（或从池中取出）一个段，几乎不产生垃圾。
+ *
+ * - 段池：队列长度在某个值附近上下波动时，尾部不断需要新段、头部不断释放旧段。把释放的段放进一个很小的池中（最多
+ *   maxPoolSize 个），下次需要新段时优先从池中取，这样队列稳定运行时不再分配任何内存。池的大小有上限，因此队列在高峰
+ *   之后变短时，多余的段仍然会被 GC 回收（相当于 LoopQueue 的缩容，但没有拷贝）。
+ * */
+
+public class ChunkedQueue<E> implements Queue<E> {
+    private static final int defaultChunkSize = 1024;
+    private static final int defaultMaxPoolSize = 4;
+
+    private class Segment {
+        public E[] items;
+        public Segment next;
+
+        public Segment() { items = (E[]) new Object[chunkSize]; }
+    }
+
+    private final int chunkSize;
+    private final Segment[] pool;  // 回收的空段（栈）
+    private int poolSize;
+    private Segment head, tail;
+    private int headIndex, tailIndex;  // head 段中下一个要出队的位置、tail 段中下一个要入队的位置
+    private int size;
+
+    public ChunkedQueue(int chunkSize, int maxPoolSize) {
+        if (chunkSize <= 0 || maxPoolSize < 0)
+            throw new IllegalArgumentException("chunkSize must be positive and maxPoolSize must be non-negative");
+        this.chunkSize = chunkSize;
+        pool = (Segment[]) new ChunkedQueue.Segment[maxPoolSize];  // 不能直接创建泛型类的内部类数组
+        poolSize = 0;
+        head = tail = new Segment();
+        headIndex = tailIndex = size = 0;
+    }
+
+    public ChunkedQueue(int chunkSize) { this(chunkSize, defaultMaxPoolSize); }
+
+    public ChunkedQueue() { this(defaultChunkSize); }
+
+    /*
+     * 辅助方法
+     * */
+    private Segment obtainSegment() {
+        if (poolSize > 0) {
+            Segment seg = pool[--poolSize];
+            pool[poolSize] = null;
+            return seg;
+        }
+        return new Segment();
+    }
+
+    private void recycleSegment(Segment seg) {  // 段中的元素在 dequeue 时已经逐个置为 null 了
+        seg.next = null;
+        if (poolSize < pool.length)
+            pool[poolSize++] = seg;
+    }
+
+    /*
+     * 增操作
+     * */
+    @Override
+    public void enqueue(E e) {
+        if (tailIndex == chunkSize) {  // tail 段已写满，挂一个新段
+            Segment seg = obtainSegment();
+            tail.next = seg;
+            tail = seg;
+            tailIndex = 0;
+        }
+        tail.items[tailIndex++] = e;
+        size++;
+    }
+
+    /*
+     * 删操作
+     * */
+    @Override
+    public E dequeue() {
+        if (isEmpty())
+            throw new IllegalArgumentException("dequeue failed. Empty queue");
+
+        E ret = head.items[headIndex];
+        head.items[headIndex++] = null;  // 释放引用
+        size--;
+
+        if (size == 0)  // 队列空了，此时 head == tail，直接从段的开头重新使用这个段
+            headIndex = tailIndex = 0;
+        else if (headIndex == chunkSize) {  // head 段已读完，摘下来回收
+            Segment old = head;
+            head = head.next;
+            headIndex = 0;
+            recycleSegment(old);
+        }
+        return ret;
+    }
+
+    /*
+     * 查操作
+     * */
+    @Override
+    public E getFront() {
+        if (isEmpty())
+            throw new IllegalArgumentException("getFront failed. Empty queue");
+        return head.items[headIndex];
+    }
+
+    @Override
+    public int getSize() { return size; }
+
+    @Override
+    public boolean isEmpty() { return size == 0; }
+
+    public int getChunkSize() { return chunkSize; }
+
+    /*
+     * Misc
+     * */
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder();
+        s.append(String.format("Size = %d, ChunkSize = %d, Pooled = %d\n", size, chunkSize, poolSize));
+        s.append("front [");
+        for (Segment seg = head; seg != null; seg = seg.next) {
+            int from = seg == head ? headIndex : 0;
+            int to = seg == tail ? tailIndex : chunkSize;
+            s.append("[");
+            for (int i = from; i < to; i++) {
+                s.append(seg.items[i]);
+                if (i != to - 1)
+                    s.append(", ");
+            }
+            s.append("]");
+            if (seg.next != null)
+                s.append(" -> ");
+        }
+        s.append("] tail\n");
+        return s.toString();
+    }
+}
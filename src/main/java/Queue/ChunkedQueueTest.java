@@ -0,0 +1,18 @@
+package Queue;
+
+class ChunkedQueueTest {
+    public static void main(String[] args) {
+        Queue<Integer> q = new ChunkedQueue<Integer>(4);  // 每段4个元素，方便观察段的挂接和回收
+        for (int i = 0; i < 10; i++) {
+            q.enqueue(i);
+            System.out.print(String.format("enqueued: %d, ", i));
+            System.out.println(q);
+
+            if (i % 3 == 2) {
+                int e = q.dequeue();
+                System.out.print(String.format("dequeued: %d, ", e));
+                System.out.println(q);
+            }
+        }
+    }
+}
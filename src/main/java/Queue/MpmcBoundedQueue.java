@@ -0,0 +1,215 @@
+package Queue;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/*
+ * - 多生产者多消费者（MPMC）的有界无锁队列，使用 Dmitry Vyukov 的 bounded MPMC queue 算法：
+ *   - 与 SpscRingQueue 一样，容量固定为2的幂，head、tail 是一直递增的序号，下标 = 序号 & mask；
+ *   - 多个生产者（或多个消费者）之间通过对 tail（或 head）做 CAS 来争抢位置；
+ *   - 每个位置还有一个自己的序号 sequence[i]，用来表示这个位置当前的状态。对于序号为 pos 的入队/出队操作：
+ *       sequence == pos          该位置空闲，可以由序号为 pos 的生产者写入
+ *       sequence == pos + 1      已经写入完成，可以由序号为 pos 的消费者读出
+ *       sequence == pos + cap    已经读出完成，可以由序号为 pos + cap 的生产者（即下一圈）写入
+ *     生产者抢到位置后写入元素，再 lazySet sequence 发布给消费者；消费者读出元素后，再 lazySet sequence 归还给生产者。
+ *     因此 CAS 成功之后，写入/读出元素的过程不需要任何同步，也不会被其他线程打断。
+ *   - offer、poll 从不阻塞：队列已满/为空时直接返回 false/null。
+ *
+ * - 批量操作：逐个 offer/poll 时每个元素都要对 tail/head 做一次 CAS，而所有线程都在争抢这两个缓存行。批量操作一次 CAS 就
+ *   抢下连续的一段位置，把 CAS 的次数和缓存行的争抢次数降低为原来的 1/batch：
+ *   - enqueueAll：从 tail 开始检查连续的若干个位置是否都空闲（sequence 在数组中是连续存放的，8个一个缓存行，检查很快），
+ *     然后一次 CAS 把 tail 向后移动这么多个位置。这些位置在 CAS 之前就已经是空闲的，消费者不会再碰它们，
+ *     因此 CAS 成功后可以放心地写入；
+ *   - drainTo：同理，检查从 head 开始的连续若干个位置是否都已经写入完成，一次 CAS 把它们全部抢下来，逐个读出、归还位置，
+ *     再交给 consumer 处理。
+ *
+ * - 与 java.util.concurrent 一致，不允许 null 元素；getSize 在并发修改时只是一个近似值。
+ * */
+
+public class MpmcBoundedQueue<E> implements Queue<E> {
+    private static final class PaddedSequence extends AtomicLong {
+        private static final long serialVersionUID = 1L;
+
+        long p1, p2, p3, p4, p5, p6, p7;  // 填充，使 head、tail 不在同一个缓存行中，SEE: SpscRingQueue
+
+        PaddedSequence(long initialValue) { super(initialValue); }
+    }
+
+    private final E[] buffer;
+    private final AtomicLongArray sequence;
+    private final int mask;
+    private final PaddedSequence head = new PaddedSequence(0);  // 下一个要出队的序号
+    private final PaddedSequence tail = new PaddedSequence(0);  // 下一个要入队的序号
+
+    public MpmcBoundedQueue(int capacity) {
+        if (capacity < 2 || capacity > (1 << 30))
+            throw new IllegalArgumentException("capacity must be in [2, 2^30]");
+        int cap = Integer.highestOneBit(capacity);  // 向上取整为2的幂
+        if (cap < capacity)
+            cap <<= 1;
+        buffer = (E[]) new Object[cap];
+        sequence = new AtomicLongArray(cap);
+        for (int i = 0; i < cap; i++)
+            sequence.set(i, i);  // 初始时每个位置 i 都可以由序号为 i 的生产者写入
+        mask = cap - 1;
+    }
+
+    public MpmcBoundedQueue() { this(1024); }
+
+    /*
+     * 辅助方法
+     * */
+    private E release(long pos) {  // 读出序号为 pos 的元素并把位置归还给下一圈的生产者（调用前必须已经抢到了 pos）
+        int index = (int) pos & mask;
+        E e = buffer[index];
+        buffer[index] = null;
+        sequence.lazySet(index, pos + buffer.length);
+        return e;
+    }
+
+    /*
+     * 增操作
+     * */
+    public boolean offer(E e) {  // 队列已满时返回 false
+        if (e == null)
+            throw new IllegalArgumentException("offer failed. Null element is not allowed.");
+        while (true) {
+            long pos = tail.get();
+            int index = (int) pos & mask;
+            long dif = sequence.get(index) - pos;
+            if (dif == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    buffer[index] = e;
+                    sequence.lazySet(index, pos + 1);  // 发布给序号为 pos 的消费者
+                    return true;
+                }
+            } else if (dif < 0)  // 该位置上一圈的元素还没被取走，队列已满
+                return false;
+            // dif > 0：其他生产者已经抢走了 pos，重新读 tail
+        }
+    }
+
+    @Override
+    public void enqueue(E e) {
+        if (!offer(e))
+            throw new IllegalArgumentException("enqueue failed. Queue is full.");
+    }
+
+    public int enqueueAll(E[] batch) { return enqueueAll(batch, 0, batch.length); }
+
+    // 尽可能多地入队 batch[from, from + len) 中靠前的元素，返回实际入队的个数（队列剩余空间不足时只入队一部分）
+    public int enqueueAll(E[] batch, int from, int len) {
+        if (from < 0 || len < 0 || from + len > batch.length)
+            throw new IllegalArgumentException("enqueueAll failed. Require from >= 0, len >= 0 and from + len <= batch.length");
+        for (int i = from; i < from + len; i++)
+            if (batch[i] == null)
+                throw new IllegalArgumentException("enqueueAll failed. Null element is not allowed.");
+        while (true) {
+            long pos = tail.get();
+            int n = 0;
+            while (n < len && n < buffer.length && sequence.get((int) (pos + n) & mask) == pos + n)
+                n++;  // 统计从 pos 开始连续空闲的位置个数
+
+            if (n == 0) {
+                if (len == 0 || sequence.get((int) pos & mask) < pos)
+                    return 0;  // 队列已满
+                continue;      // pos 已经被其他生产者抢走
+            }
+            if (tail.compareAndSet(pos, pos + n)) {
+                for (int i = 0; i < n; i++) {
+                    int index = (int) (pos + i) & mask;
+                    buffer[index] = batch[from + i];
+                    sequence.lazySet(index, pos + i + 1);
+                }
+                return n;
+            }
+        }
+    }
+
+    /*
+     * 删操作
+     * */
+    public E poll() {  // 队列为空时返回 null
+        while (true) {
+            long pos = head.get();
+            int index = (int) pos & mask;
+            long dif = sequence.get(index) - (pos + 1);
+            if (dif == 0) {
+                if (head.compareAndSet(pos, pos + 1))
+                    return release(pos);
+            } else if (dif < 0)  // 该位置还没有写入，队列为空
+                return null;
+            // dif > 0：其他消费者已经抢走了 pos，重新读 head
+        }
+    }
+
+    @Override
+    public E dequeue() {
+        E e = poll();
+        if (e == null)
+            throw new IllegalArgumentException("dequeue failed. Empty queue");
+        return e;
+    }
+
+    public int drainTo(Consumer<? super E> consumer, int maxBatch) {  // 最多取出 maxBatch 个元素交给 consumer，返回实际取出的个数
+        if (maxBatch <= 0)
+            throw new IllegalArgumentException("drainTo failed. maxBatch must be positive.");
+        while (true) {
+            long pos = head.get();
+            int n = 0;
+            while (n < maxBatch && n < buffer.length && sequence.get((int) (pos + n) & mask) == pos + n + 1)
+                n++;  // 统计从 pos 开始连续已写入完成的位置个数
+
+            if (n == 0) {
+                if (sequence.get((int) pos & mask) < pos + 1)
+                    return 0;  // 队列为空
+                continue;      // pos 已经被其他消费者抢走
+            }
+            if (head.compareAndSet(pos, pos + n)) {
+                int i = 0;
+                try {
+                    for (; i < n; i++)
+                        consumer.accept(release(pos + i));  // 先归还位置，使生产者不必等待 consumer 处理完
+                } finally {
+                    // consumer 抛出异常时，已经抢下的其余位置也必须归还，否则生产者会永远等在这些位置上。
+                    // 这些元素被丢弃（与 java.util.concurrent.BlockingQueue.drainTo 一样，出错时不保证元素的去向）
+                    for (int j = i + 1; j < n; j++)
+                        release(pos + j);
+                }
+                return n;
+            }
+        }
+    }
+
+    /*
+     * 查操作
+     * */
+    @Override
+    public E getFront() {  // 并发修改时只是一个快照
+        while (true) {
+            long pos = head.get();
+            int index = (int) pos & mask;
+            if (sequence.get(index) != pos + 1) {
+                if (head.get() == pos)
+                    throw new IllegalArgumentException("getFront failed. Empty queue");
+                continue;
+            }
+            E e = buffer[index];
+            if (e != null && head.get() == pos)  // 读的过程中没有被其他消费者取走
+                return e;
+        }
+    }
+
+    @Override
+    public int getSize() {
+        long h = head.get();  // 先读 head 再读 tail，保证结果 >= 0
+        long t = tail.get();
+        return (int) Math.min(t - h, buffer.length);
+    }
+
+    public int getCapacity() { return buffer.length; }
+
+    @Override
+    public boolean isEmpty() { return getSize() == 0; }
+}
@@ -0,0 +1,90 @@
+package Queue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * - nThreads 个生产者、nThreads 个消费者，每个生产者入队 opCount 个元素，比较逐个 offer/poll 与批量 enqueueAll/drainTo
+ *   的吞吐量，并通过元素之和检查没有元素丢失或重复。
+ * */
+
+public class MpmcBoundedQueueTest {
+    private static double testQueue(int nThreads, int opCount, int batchSize) throws InterruptedException {
+        MpmcBoundedQueue<Integer> q = new MpmcBoundedQueue<Integer>(4096);
+        AtomicLong consumedSum = new AtomicLong();
+        AtomicLong consumedCount = new AtomicLong();
+        long total = (long) nThreads * opCount;
+        List<Thread> threads = new ArrayList<Thread>();
+
+        for (int t = 0; t < nThreads; t++) {
+            threads.add(new Thread(() -> {  // 生产者
+                Integer[] batch = new Integer[batchSize];
+                for (int i = 0; i < opCount; ) {
+                    if (batchSize == 1) {
+                        if (q.offer(i))
+                            i++;
+                        else
+                            Thread.yield();
+                    } else {
+                        int n = Math.min(batchSize, opCount - i);
+                        for (int j = 0; j < n; j++)
+                            batch[j] = i + j;
+                        for (int offered = 0; offered < n; ) {  // enqueueAll 可能只入队了一部分，剩下的重试
+                            int k = q.enqueueAll(batch, offered, n - offered);
+                            if (k == 0)
+                                Thread.yield();
+                            offered += k;
+                        }
+                        i += n;
+                    }
+                }
+            }));
+            threads.add(new Thread(() -> {  // 消费者
+                long[] sum = {0};
+                while (consumedCount.get() < total) {
+                    int n;
+                    if (batchSize == 1) {
+                        Integer e = q.poll();
+                        n = e == null ? 0 : 1;
+                        if (e != null)
+                            sum[0] += e;
+                    } else
+                        n = q.drainTo(e -> sum[0] += e, batchSize);
+                    if (n == 0)
+                        Thread.yield();
+                    else
+                        consumedCount.addAndGet(n);
+                }
+                consumedSum.addAndGet(sum[0]);
+            }));
+        }
+
+        long startTime = System.nanoTime();
+        for (Thread thread : threads)
+            thread.start();
+        for (Thread thread : threads)
+            thread.join();
+        long endTime = System.nanoTime();
+
+        long expected = (long) nThreads * opCount * (opCount - 1) / 2;
+        if (consumedSum.get() != expected || consumedCount.get() != total)
+            throw new IllegalStateException("Lost or duplicated elements");
+        return (endTime - startTime) / 1000000000.0;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        MpmcBoundedQueue<Integer> q = new MpmcBoundedQueue<Integer>(8);
+        System.out.println("enqueueAll 10 elements into capacity 8: " + q.enqueueAll(new Integer[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9}));
+        StringBuilder s = new StringBuilder();
+        q.drainTo(e -> s.append(e + " "), 5);
+        System.out.println("drainTo(5): " + s + ", size = " + q.getSize() + "\n");
+
+        int opCount = 2000000;
+        for (int nThreads = 1; nThreads <= 4; nThreads *= 2) {
+            double t1 = testQueue(nThreads, opCount / nThreads, 1);
+            double t2 = testQueue(nThreads, opCount / nThreads, 256);
+            System.out.println(String.format("producers = consumers = %d, offer/poll: %.3f s, enqueueAll/drainTo(256): %.3f s", nThreads, t1, t2));
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package Queue;
+
+import MaxHeap.MaxHeap;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * - 并发优先队列：PriorityQueue 底层只有一个 MaxHeap，多线程使用时只能用一把全局锁把 enqueue、dequeue 包起来，所有线程都串行在
+ *   这把锁上，而且每次 dequeue 都要修改堆顶，堆顶所在的缓存行在各个核之间来回传递，线程越多反而越慢。
+ *
+ * - MultiQueue（Rihani, Sanders, Dementiev 2015）是一种"松弛"（relaxed）的并发优先队列：
+ *   - 内部有 c * p 个独立的 MaxHeap（p 为线程数，c 通常取2），每个堆由自己的一把锁保护；
+ *   - enqueue：随机选一个堆，tryLock 成功则插入，失败（被其他线程占用）则换一个堆重试，因此线程之间几乎不会互相等待；
+ *   - dequeue：随机选两个堆，比较它们的堆顶，从较大的那个堆中取出堆顶（"二选一"，power of two choices）。
+ *     同样用 tryLock，失败则重新选。
+ *   - 每个堆的堆顶缓存在 tops 中，比较堆顶时不需要加锁。
+ *
+ * - 松弛的含义：dequeue 不保证取出的是全局最大值，而是"接近最大"的元素。理论上取出的元素的排名期望是 O(c * p)。
+ *   对于任务调度这类场景，优先级大致有序就足够了，换来的是吞吐量可以随线程数增长。如果必须严格有序，仍然使用加锁的
+ *   PriorityQueue。
+ *
+ * - 注：这不是严格意义上的 lock-free（每个堆仍然由锁保护），但没有全局锁，并且使用 tryLock 从不在一把锁上等待
+ *   （只有在所有堆看起来都为空、需要逐个确认时才会阻塞地加锁）。
+ *
+ * - 伪共享（false sharing）：tops 中相邻的元素在同一个缓存行里，不同线程频繁修改不同堆的堆顶时会互相使对方的缓存行失效。
+ *   因此每个堆顶之间间隔 PAD 个位置（16 个引用 >= 64 字节），使每个堆顶独占一个缓存行。
+ *
+ * - 与 java.util.concurrent 一致，不允许 null 元素；getSize 在并发修改时只是一个近似值。
+ * */
+
+public class MultiQueue<E extends Comparable<E>> implements Queue<E> {
+    private static final int PAD = 16;
+    private static final int defaultQueuesPerThread = 2;
+
+    private final MaxHeap<E>[] heaps;
+    private final ReentrantLock[] locks;
+    private final AtomicReferenceArray<E> tops;  // tops[i * PAD] 是 heaps[i] 的堆顶，堆为空时为 null
+    private final LongAdder size = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public MultiQueue(int numQueues) {
+        if (numQueues <= 0)
+            throw new IllegalArgumentException("numQueues must be positive");
+        heaps = (MaxHeap<E>[]) new MaxHeap<?>[numQueues];  // 不能直接创建泛型类的数组
+        locks = new ReentrantLock[numQueues];
+        tops = new AtomicReferenceArray<E>(numQueues * PAD);
+        for (int i = 0; i < numQueues; i++) {
+            heaps[i] = new MaxHeap<E>();
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    public MultiQueue() { this(defaultQueuesPerThread * Runtime.getRuntime().availableProcessors()); }
+
+    /*
+     * 辅助方法
+     * */
+    private E top(int i) { return tops.get(i * PAD); }
+
+    private void updateTop(int i) { tops.set(i * PAD, heaps[i].isEmpty() ? null : heaps[i].findMax()); }  // 需持有 locks[i]
+
+    private E extractFrom(int i) {  // 需持有 locks[i]
+        E ret = heaps[i].extractMax();
+        updateTop(i);
+        size.decrement();
+        return ret;
+    }
+
+    private E pollSlowPath() {  // 随机选到的堆都是空的：从一个随机位置开始逐个检查所有堆，全都为空才认为队列为空
+        int n = heaps.length;
+        int start = ThreadLocalRandom.current().nextInt(n);
+        for (int k = 0; k < n; k++) {
+            int i = (start + k) % n;
+            if (top(i) == null)
+                continue;
+            locks[i].lock();
+            try {
+                if (!heaps[i].isEmpty())
+                    return extractFrom(i);
+            } finally {
+                locks[i].unlock();
+            }
+        }
+        return null;
+    }
+
+    /*
+     * 增操作
+     * */
+    @Override
+    public void enqueue(E e) {
+        if (e == null)
+            throw new IllegalArgumentException("enqueue failed. Null element is not allowed.");
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (true) {
+            int i = random.nextInt(heaps.length);
+            if (!locks[i].tryLock())
+                continue;  // 该堆正被其他线程使用，换一个
+            try {
+                heaps[i].insert(e);
+                updateTop(i);
+            } finally {
+                locks[i].unlock();
+            }
+            size.increment();
+            return;
+        }
+    }
+
+    /*
+     * 删操作
+     * */
+    public E poll() {  // 取出一个接近最大的元素，队列为空时返回 null
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int n = heaps.length;
+        for (int attempts = 0; attempts < 2 * n; attempts++) {
+            int i = random.nextInt(n), j = random.nextInt(n);
+            E a = top(i), b = top(j);
+            if (a == null && b == null)
+                continue;
+            int k = (b == null || (a != null && a.compareTo(b) >= 0)) ? i : j;  // 二选一：选堆顶较大的那个堆
+
+            if (!locks[k].tryLock())
+                continue;
+            try {
+                if (!heaps[k].isEmpty())  // 比较堆顶之后、加锁之前可能已经被其他线程取空了
+                    return extractFrom(k);
+            } finally {
+                locks[k].unlock();
+            }
+        }
+        return pollSlowPath();
+    }
+
+    @Override
+    public E dequeue() {
+        E ret = poll();
+        if (ret == null)
+            throw new IllegalArgumentException("dequeue failed. Queue is empty.");
+        return ret;
+    }
+
+    /*
+     * 查操作
+     * */
+    @Override
+    public E getFront() {  // 所有堆顶中的最大值（并发修改时只是一个快照）
+        E max = null;
+        for (int i = 0; i < heaps.length; i++) {
+            E e = top(i);
+            if (e != null && (max == null || e.compareTo(max) > 0))
+                max = e;
+        }
+        if (max == null)
+            throw new IllegalArgumentException("getFront failed. Queue is empty.");
+        return max;
+    }
+
+    @Override
+    public int getSize() { return size.intValue(); }
+
+    @Override
+    public boolean isEmpty() { return getSize() == 0; }
+}
@@ -0,0 +1,94 @@
+package Queue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * - 对比 MultiQueue 与用一把全局锁保护的 PriorityQueue 在 1~64 个线程下的吞吐量。
+ * - 每个线程交替地 enqueue 一个随机数、dequeue 一个元素（类似任务调度器中生产者、消费者混在一起的情况），队列中预先放入一批
+ *   元素，使 dequeue 不会遇到空队列。
+ * - 注意：线程数超过 CPU 核数之后，多出来的线程只是在分时复用 CPU，吞吐量不会再增长。
+ * */
+
+public class MultiQueueTest {
+    private static class SynchronizedQueue<E> implements Queue<E> {  // 对照组：用一把全局锁保护的 PriorityQueue
+        private final Queue<E> q;
+
+        public SynchronizedQueue(Queue<E> q) { this.q = q; }
+
+        public synchronized void enqueue(E e) { q.enqueue(e); }
+
+        public synchronized E dequeue() { return q.dequeue(); }
+
+        public synchronized E getFront() { return q.getFront(); }
+
+        public synchronized int getSize() { return q.getSize(); }
+
+        public synchronized boolean isEmpty() { return q.isEmpty(); }
+    }
+
+    private static double testQueue(Queue<Integer> q, int nThreads, int opCount, AtomicLong checksum) throws InterruptedException {
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int t = 0; t < nThreads; t++) {
+            final long seed = t;
+            threads.add(new Thread(() -> {
+                Random random = new Random(seed);
+                long sum = 0;
+                for (int i = 0; i < opCount; i++) {
+                    int e = random.nextInt(Integer.MAX_VALUE);
+                    sum += e;
+                    q.enqueue(e);
+                    sum -= q.dequeue();
+                }
+                checksum.addAndGet(sum);  // 入队元素之和 - 出队元素之和，加上预先放入的元素之和应该等于队列中剩余的元素之和
+            }));
+        }
+
+        long startTime = System.nanoTime();
+        for (Thread thread : threads)
+            thread.start();
+        for (Thread thread : threads)
+            thread.join();
+        long endTime = System.nanoTime();
+        return (endTime - startTime) / 1000000000.0;
+    }
+
+    private static double run(Queue<Integer> q, int nThreads, int totalOps) throws InterruptedException {
+        int prefill = 10000;
+        long expected = 0;
+        for (int i = 0; i < prefill; i++) {
+            q.enqueue(i);
+            expected += i;
+        }
+
+        AtomicLong checksum = new AtomicLong();
+        double time = testQueue(q, nThreads, totalOps / nThreads, checksum);
+
+        long remaining = 0;
+        while (!q.isEmpty())
+            remaining += q.dequeue();
+        if (expected + checksum.get() != remaining)
+            throw new IllegalStateException("Lost or duplicated elements in " + q.getClass().getSimpleName());
+        return time;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        // 单线程下 MultiQueue 出队的顺序是"大致有序"的
+        MultiQueue<Integer> mq = new MultiQueue<Integer>(4);
+        for (int i = 0; i < 20; i++)
+            mq.enqueue(i);
+        StringBuilder s = new StringBuilder();
+        while (!mq.isEmpty())
+            s.append(mq.dequeue() + " ");
+        System.out.println("MultiQueue dequeued (relaxed order): " + s.toString() + "\n");
+
+        int totalOps = 1000000;
+        for (int nThreads = 1; nThreads <= 64; nThreads *= 2) {
+            double t1 = run(new MultiQueue<Integer>(), nThreads, totalOps);
+            double t2 = run(new SynchronizedQueue<Integer>(new PriorityQueue<Integer>()), nThreads, totalOps);
+            System.out.println(String.format("threads = %2d, MultiQueue: %.3f s, synchronized PriorityQueue: %.3f s", nThreads, t1, t2));
+        }
+    }
+}
@@ -9,6 +9,7 @@ import java.util.Random;
 *   但是要注意性能测试的结果受很多因素影响：不同的机器、不同的系统、不同的 java 版本（JVM 优化）等等。
 * 
 * - LinkedListQueue 和 LoopQueue 的复杂度在同一级别，所以性能差距不大。
+* - ChunkedQueue 同样是 O(1)，但既不像 LinkedListQueue 那样每个元素创建一个节点，也不像 LoopQueue 那样扩容/缩容时拷贝所有元素。
 * - 必须明确的是，时间复杂度只衡量趋势，看n无限大时的情况。所以他也有另一个称呼，叫“渐进时间复杂度”，这个“渐进”的由来就在这里，
 *   n 要渐进无穷。但是对于具体的测试用例，时间复杂度无法描述具体性能，因为时间复杂度忽略了常数项和低阶项。一个算法，时间需要
 *   10000n，100n，2n，其时间复杂度都是O(n)级别的算法。
@@ -46,5 +47,11 @@ public class PerformanceTest {
 
         double t3 = PerformanceTest.testQueue(linkedListQueue, opCount);
         System.out.println("linkedListQueue: " + t3 + " s");
+
+        double t4 = PerformanceTest.testQueue(new ChunkedQueue<Integer>(), opCount);
+        System.out.println("ChunkedQueue: " + t4 + " s");
+
+        double t5 = PerformanceTest.testQueue(new ArrayDeque<Integer>(), opCount);
+        System.out.println("ArrayDeque: " + t5 + " s");
     }
 }
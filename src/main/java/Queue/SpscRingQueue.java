@@ -0,0 +1,133 @@
+package Queue;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * - 单生产者单消费者（SPSC）的无锁环形队列：只有一个线程 enqueue、一个线程 dequeue（如网络读线程把消息交给处理线程）。
+ *
+ * - 与 LoopQueue 的区别：
+ *   1. 容量固定为2的幂：下标不再用 % 计算，而是用 & mask（取模是几十个时钟周期的除法，按位与只要1个）；
+ *   2. head、tail 不是下标，而是一直递增的序号（long 类型，不会溢出），下标 = 序号 & mask。这样 tail - head 就是元素个数，
+ *      空（tail == head）和满（tail - head == capacity）不会混淆，不需要像 LoopQueue 那样浪费一个位置，也不需要 size 字段
+ *      （size 需要被两个线程同时修改，就必须加锁或使用 CAS）；
+ *   3. 线程安全，但没有锁、也没有 CAS：tail 只由生产者修改，head 只由消费者修改，每个变量都只有一个写者。
+ *
+ * - 发布顺序（publication）：生产者先把元素写入 buffer，再更新 tail；消费者先读到新的 tail，再读 buffer。
+ *   - 更新 tail 使用 lazySet（有序写，ordered store）：保证之前对 buffer 的写不会被重排到它之后，但不需要像 volatile 写
+ *     那样插入一个代价很高的 StoreLoad 内存屏障（在 x86 上 lazySet 就是一条普通的 mov 指令）；
+ *   - 消费者取出元素后同样先把 buffer 中的位置置为 null，再 lazySet head，把位置"归还"给生产者。
+ *
+ * - 避免伪共享（false sharing）：head 和 tail 被两个不同的核频繁修改，如果它们在同一个缓存行（64字节）里，每次修改都会使
+ *   对方核中的整个缓存行失效，两个线程实际上在争抢同一个缓存行。因此 head、tail 各自放在一个 Sequence 对象中，对象后面用
+ *   7个 long 填充，使它们不会落在同一个缓存行里。
+ *
+ * - 缓存对方的序号：生产者每次都读 head（消费者的缓存行）来判断是否已满也会造成缓存行的来回传递。因此生产者把上次读到的
+ *   head 缓存在 tail.cache 中，只有当按缓存的值判断已满时才重新读一次 head；消费者对 tail 同理。队列不满不空时，两个线程
+ *   基本上只访问各自的缓存行。
+ * */
+
+public class SpscRingQueue<E> implements Queue<E> {
+    private static final class Sequence extends AtomicLong {
+        private static final long serialVersionUID = 1L;
+
+        long cache;  // 对方序号的缓存，只由拥有该序号的线程访问
+        long p1, p2, p3, p4, p5, p6, p7;  // 填充，使相邻的 Sequence 不在同一个缓存行中
+
+        Sequence(long initialValue) { super(initialValue); }
+    }
+
+    private final E[] buffer;
+    private final int mask;
+    private final Sequence head = new Sequence(0);  // 下一个要出队的序号，只由消费者修改；head.cache 是消费者缓存的 tail
+    private final Sequence tail = new Sequence(0);  // 下一个要入队的序号，只由生产者修改；tail.cache 是生产者缓存的 head
+
+    public SpscRingQueue(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30))
+            throw new IllegalArgumentException("capacity must be in [1, 2^30]");
+        int cap = Integer.highestOneBit(capacity);  // 向上取整为2的幂
+        if (cap < capacity)
+            cap <<= 1;
+        buffer = (E[]) new Object[cap];
+        mask = cap - 1;
+    }
+
+    public SpscRingQueue() { this(1024); }
+
+    /*
+     * 增操作（只能由生产者线程调用）
+     * */
+    public boolean offer(E e) {  // 队列已满时返回 false
+        if (e == null)
+            throw new IllegalArgumentException("offer failed. Null element is not allowed.");
+        long t = tail.get();  // tail 只有自己修改，这里读到的一定是最新值
+        if (t - tail.cache == buffer.length) {
+            tail.cache = head.get();  // 按缓存的 head 判断已满，重新读一次
+            if (t - tail.cache == buffer.length)
+                return false;
+        }
+        buffer[(int) t & mask] = e;
+        tail.lazySet(t + 1);  // 先写 buffer 再发布 tail
+        return true;
+    }
+
+    @Override
+    public void enqueue(E e) {
+        if (!offer(e))
+            throw new IllegalArgumentException("enqueue failed. Queue is full.");
+    }
+
+    /*
+     * 删操作（只能由消费者线程调用）
+     * */
+    public E poll() {  // 队列为空时返回 null
+        long h = head.get();
+        if (h == head.cache) {
+            head.cache = tail.get();  // 按缓存的 tail 判断为空，重新读一次
+            if (h == head.cache)
+                return null;
+        }
+        int index = (int) h & mask;
+        E e = buffer[index];
+        buffer[index] = null;  // 释放引用，防止内存泄漏
+        head.lazySet(h + 1);   // 先清空位置再归还给生产者
+        return e;
+    }
+
+    @Override
+    public E dequeue() {
+        E e = poll();
+        if (e == null)
+            throw new IllegalArgumentException("dequeue failed. Empty queue");
+        return e;
+    }
+
+    /*
+     * 查操作
+     * */
+    public E peek() {  // 只能由消费者线程调用，队列为空时返回 null
+        long h = head.get();
+        if (h == tail.get())
+            return null;
+        return buffer[(int) h & mask];
+    }
+
+    @Override
+    public E getFront() {
+        E e = peek();
+        if (e == null)
+            throw new IllegalArgumentException("getFront failed. Empty queue");
+        return e;
+    }
+
+    @Override
+    public int getSize() {  // 在其他线程中调用时只是一个近似值
+        long h = head.get();  // 先读 head 再读 tail，保证结果 >= 0
+        long t = tail.get();
+        return (int) Math.min(t - h, buffer.length);
+    }
+
+    public int getCapacity() { return buffer.length; }
+
+    @Override
+    public boolean isEmpty() { return head.get() == tail.get(); }
+}
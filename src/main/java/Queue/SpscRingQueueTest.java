@@ -0,0 +1,84 @@
+package Queue;
+
+/*
+ * - 一个生产者线程依次 enqueue 0 ~ n-1，一个消费者线程依次 dequeue，检查取出的顺序，并统计吞吐量。
+ * - 对照组：用 synchronized 保护的 LoopQueue（生产者、消费者每次操作都要竞争同一把锁）。
+ * - 元素预先装箱好，避免测到 Integer.valueOf 的开销。
+ * */
+
+public class SpscRingQueueTest {
+    private static double testSpsc(Integer[] items) throws InterruptedException {
+        SpscRingQueue<Integer> q = new SpscRingQueue<Integer>(1024);
+        int n = items.length;
+        boolean[] ok = {true};
+
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < n; i++)
+                while (!q.offer(items[i]))
+                    Thread.yield();  // 队列已满，让出 CPU 等待消费者
+        });
+        Thread consumer = new Thread(() -> {
+            for (int i = 0; i < n; i++) {
+                Integer e;
+                while ((e = q.poll()) == null)
+                    Thread.yield();  // 队列为空，让出 CPU 等待生产者
+                if (e != i)
+                    ok[0] = false;
+            }
+        });
+
+        long startTime = System.nanoTime();
+        producer.start();
+        consumer.start();
+        producer.join();
+        consumer.join();
+        long endTime = System.nanoTime();
+
+        if (!ok[0] || !q.isEmpty())
+            throw new IllegalStateException("SpscRingQueue delivered elements out of order");
+        return (endTime - startTime) / 1000000000.0;
+    }
+
+    private static double testLocked(Integer[] items) throws InterruptedException {
+        LoopQueue<Integer> q = new LoopQueue<Integer>(1024);
+        int n = items.length;
+
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < n; i++)
+                synchronized (q) {
+                    q.enqueue(items[i]);
+                }
+        });
+        Thread consumer = new Thread(() -> {
+            for (int i = 0; i < n; ) {
+                synchronized (q) {
+                    if (!q.isEmpty()) {
+                        q.dequeue();
+                        i++;
+                    }
+                }
+            }
+        });
+
+        long startTime = System.nanoTime();
+        producer.start();
+        consumer.start();
+        producer.join();
+        consumer.join();
+        long endTime = System.nanoTime();
+        return (endTime - startTime) / 1000000000.0;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int n = 10000000;
+        Integer[] items = new Integer[n];
+        for (int i = 0; i < n; i++)
+            items[i] = i;
+
+        double t1 = testSpsc(items);
+        System.out.println(String.format("SpscRingQueue: %.3f s, %.1f M ops/s", t1, n / t1 / 1e6));
+
+        double t2 = testLocked(items);
+        System.out.println(String.format("synchronized LoopQueue: %.3f s, %.1f M ops/s", t2, n / t2 / 1e6));
+    }
+}
@@ -0,0 +1,112 @@
+package Queue;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * - 工作窃取双端队列（Chase-Lev work-stealing deque，Chase & Lev 2005）：fork-join 调度器的核心数据结构。
+ *   - 每个工作线程有一个自己的双端队列。拥有者（owner）线程把新产生的子任务 push 到底部（bottom），也从底部 pop
+ *     任务来执行，就像使用一个 ArrayStack：后产生的子任务先执行（深度优先），数据还在缓存里，局部性最好；
+ *   - 其他空闲的线程（窃取者，thief）从顶部（top）steal 任务，就像从一个 Queue 的队首 dequeue：偷走的是最早产生的任务，
+ *     在递归分治中这往往是最大的一块，一次窃取就能让窃取者忙上很久，窃取的次数因此很少。
+ *
+ * - 为什么拥有者不需要加锁：
+ *   - bottom 只由拥有者修改，push 时先写入元素再更新 bottom，窃取者读到新的 bottom 时一定能看到元素；
+ *   - 多个窃取者之间通过对 top 做 CAS 来争抢顶部的元素；
+ *   - 拥有者 pop 时先把 bottom 减1（相当于先"预定"底部的元素），再读 top：
+ *     - 如果 top < bottom，说明队列中至少还有两个元素，窃取者不可能碰到底部这个元素，直接取走，不需要 CAS；
+ *     - 如果 top == bottom，说明只剩最后一个元素，拥有者也要和窃取者一起对 top 做 CAS，谁成功算谁的。
+ *     因此绝大多数 push、pop 只是普通的读写，只有在争抢最后一个元素时才需要 CAS。
+ *   - bottom、top 都是 volatile 的（Java 中 volatile 的读写是顺序一致的），保证了"先写 bottom 再读 top"不会被重排序。
+ *
+ * - 数组满时由拥有者扩容为原来的2倍，把 [top, bottom) 拷贝到新数组中，再替换 data。旧数组不会被修改，因此正在读旧数组的
+ *   窃取者读到的仍然是正确的元素（之后它对 top 的 CAS 决定了这个元素到底归不归它）。
+ * - 被取走的位置不会立即置为 null（窃取者可能正在读这个位置），它会在之后的 push 中被覆盖。
+ * */
+
+public class WorkStealingDeque<E> {
+    private volatile E[] data;
+    private volatile long bottom;                       // 下一个 push 的位置，只由拥有者修改
+    private final AtomicLong top = new AtomicLong(0);   // 下一个 steal 的位置，由窃取者（和 pop 最后一个元素的拥有者）CAS 修改
+
+    public WorkStealingDeque(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30))
+            throw new IllegalArgumentException("capacity must be in [1, 2^30]");
+        int cap = Integer.highestOneBit(capacity);  // 向上取整为2的幂
+        if (cap < capacity)
+            cap <<= 1;
+        data = (E[]) new Object[cap];
+        bottom = 0;
+    }
+
+    public WorkStealingDeque() { this(64); }
+
+    /*
+     * 辅助方法
+     * */
+    private E[] grow(E[] a, long t, long b) {  // 只由拥有者调用
+        E[] newData = (E[]) new Object[a.length * 2];
+        for (long i = t; i < b; i++)
+            newData[(int) i & (newData.length - 1)] = a[(int) i & (a.length - 1)];
+        data = newData;
+        return newData;
+    }
+
+    /*
+     * 拥有者操作（只能由拥有该队列的线程调用）
+     * */
+    public void push(E e) {
+        if (e == null)
+            throw new IllegalArgumentException("push failed. Null element is not allowed.");
+        long b = bottom;
+        long t = top.get();
+        E[] a = data;
+        if (b - t >= a.length)
+            a = grow(a, t, b);
+        a[(int) b & (a.length - 1)] = e;
+        bottom = b + 1;  // 先写元素，再发布 bottom
+    }
+
+    public E pop() {  // 从底部取出最后 push 的元素，为空时返回 null
+        long b = bottom - 1;
+        E[] a = data;
+        bottom = b;  // 先预定底部的元素，再读 top
+        long t = top.get();
+        if (t > b) {  // 队列为空
+            bottom = b + 1;
+            return null;
+        }
+        E e = a[(int) b & (a.length - 1)];
+        if (t == b) {  // 只剩最后一个元素，与窃取者争抢
+            if (!top.compareAndSet(t, t + 1))
+                e = null;  // 被窃取者抢走了
+            bottom = b + 1;
+        }
+        return e;
+    }
+
+    /*
+     * 窃取者操作（任何线程都可以调用）
+     * */
+    public E steal() {  // 从顶部取出最早 push 的元素，为空或与其他线程争抢失败时返回 null
+        long t = top.get();
+        long b = bottom;
+        if (t >= b)
+            return null;
+        E[] a = data;
+        E e = a[(int) t & (a.length - 1)];
+        if (!top.compareAndSet(t, t + 1))
+            return null;  // 被其他窃取者或拥有者抢走了
+        return e;
+    }
+
+    /*
+     * 查操作
+     * */
+    public int getSize() {  // 在非拥有者线程中调用时只是一个近似值
+        long b = bottom;
+        long t = top.get();
+        return (int) Math.max(b - t, 0);
+    }
+
+    public boolean isEmpty() { return getSize() == 0; }
+}
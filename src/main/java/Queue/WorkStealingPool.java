@@ -0,0 +1,223 @@
+package Queue;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * - 基于 WorkStealingDeque 的简易 fork-join 线程池，用于递归分治的并行计算（如并行 heapify、并行构建线段树）：
+ *   - 每个工作线程有自己的 WorkStealingDeque。任务在执行过程中 fork 出的子任务 push 到当前线程自己的队列中；
+ *   - 工作线程优先从自己队列的底部 pop 任务执行，自己的队列空了再随机选一个其他线程的队列 steal，都没有则从提交队列中取；
+ *   - 从池外提交的任务（invoke）放入一个共享的提交队列（SEE: BlockingQueue）；
+ *   - 找不到任务的工作线程在条件变量 workAvailable 上阻塞（park），不会空转占用 CPU。有新任务时（invoke 提交、或 fork
+ *     push 到某个工作线程的队列）才唤醒一个空闲线程。为了让 fork 在没有空闲线程时不必加锁，空闲线程的个数记录在
+ *     idleWorkers 中：空闲线程先把 idleWorkers 加1、再检查一遍有没有任务，fork 先 push、再读 idleWorkers。两边都是
+ *     volatile 读写，因此要么空闲线程能看到新任务，要么 fork 能看到有空闲线程并唤醒它，不会丢失唤醒。
+ *
+ * - join：等待一个子任务完成时，工作线程不会阻塞，而是继续从自己的队列 pop、或从其他线程 steal 任务来执行（helping），
+ *   直到该子任务完成。这样即使线程数很少，递归很深，也不会因为所有线程都在等待子任务而死锁。
+ *
+ * - 用法（与 java.util.concurrent.ForkJoinPool 中的 RecursiveTask 类似）：
+ *     class Sum extends WorkStealingPool.Task<Long> {
+ *         protected Long compute() {
+ *             if (范围足够小) return 直接计算;
+ *             Sum left = new Sum(左半边), right = new Sum(右半边);
+ *             left.fork();                         // 左半边交给其他线程（可能被偷走）
+ *             return right.compute() + left.join(); // 当前线程计算右半边，再等左半边
+ *         }
+ *     }
+ *     long sum = pool.invoke(new Sum(整个范围));
+ * */
+
+public class WorkStealingPool {
+    public abstract static class Task<T> {
+        private volatile boolean done;
+        private T result;
+        private Throwable exception;
+        private volatile Thread waiter;  // 在池外等待该任务的线程
+
+        protected abstract T compute();
+
+        private void run() {
+            try {
+                result = compute();
+            } catch (Throwable ex) {
+                exception = ex;
+            }
+            done = true;  // volatile 写，使 result、exception 对等待的线程可见
+            Thread w = waiter;
+            if (w != null)
+                LockSupport.unpark(w);
+        }
+
+        public final Task<T> fork() {  // 必须在工作线程中（即某个任务的 compute 中）调用
+            Thread current = Thread.currentThread();
+            if (!(current instanceof Worker))
+                throw new IllegalArgumentException("fork failed. fork() must be called inside a task.");
+            ((Worker) current).push(this);
+            return this;
+        }
+
+        public final T join() {
+            Thread current = Thread.currentThread();
+            if (current instanceof Worker)
+                ((Worker) current).helpUntilDone(this);
+            else
+                awaitDone();
+            return getResult();
+        }
+
+        public final boolean isDone() { return done; }
+
+        private void awaitDone() {
+            waiter = Thread.currentThread();
+            while (!done)
+                LockSupport.park(this);  // 可能被虚假唤醒，因此放在循环中
+        }
+
+        private T getResult() {
+            if (exception != null)
+                throw new RuntimeException("Task failed", exception);
+            return result;
+        }
+    }
+
+    private class Worker extends Thread {
+        final WorkStealingDeque<Task<?>> deque = new WorkStealingDeque<Task<?>>();
+        final int index;
+
+        Worker(int index) {
+            this.index = index;
+            setName("work-stealing-worker-" + index);
+            setDaemon(true);
+        }
+
+        void push(Task<?> task) {
+            deque.push(task);
+            signalWork();
+        }
+
+        private Task<?> trySteal() {  // 从一个随机位置开始，依次尝试窃取其他线程的任务
+            int n = workers.length;
+            int start = ThreadLocalRandom.current().nextInt(n);
+            for (int k = 0; k < n; k++) {
+                Worker victim = workers[(start + k) % n];
+                if (victim == this)
+                    continue;
+                Task<?> task = victim.deque.steal();
+                if (task != null)
+                    return task;
+            }
+            return null;
+        }
+
+        private Task<?> findTask() {
+            Task<?> task = deque.pop();
+            if (task == null)
+                task = trySteal();
+            if (task == null)
+                task = submissions.poll();
+            return task;
+        }
+
+        void helpUntilDone(Task<?> awaited) {
+            while (!awaited.isDone()) {
+                Task<?> task = findTask();
+                if (task != null)
+                    task.run();
+                else
+                    Thread.yield();  // 被等待的任务正在其他线程上执行
+            }
+        }
+
+        private Task<?> awaitTask() throws InterruptedException {  // 没有任务可做时阻塞，直到有新任务或线程池关闭（此时返回 null）
+            idleLock.lock();
+            idleWorkers.incrementAndGet();
+            try {
+                Task<?> task;
+                while ((task = findTask()) == null && !shutdown)  // 先登记为空闲再检查，SEE: 类注释
+                    workAvailable.await();
+                return task;
+            } finally {
+                idleWorkers.decrementAndGet();
+                idleLock.unlock();
+            }
+        }
+
+        @Override
+        public void run() {
+            while (!shutdown) {
+                Task<?> task = findTask();
+                if (task == null) {
+                    try {
+                        task = awaitTask();
+                    } catch (InterruptedException ex) {
+                        return;
+                    }
+                }
+                if (task != null)
+                    task.run();
+            }
+        }
+    }
+
+    private final Worker[] workers;
+    private final BlockingQueue<Task<?>> submissions = new BlockingQueue<Task<?>>(new LinkedListQueue<Task<?>>(), Integer.MAX_VALUE);
+    private volatile boolean shutdown = false;
+    private final AtomicInteger idleWorkers = new AtomicInteger(0);  // 在 workAvailable 上等待（或正准备等待）的工作线程个数
+    private final ReentrantLock idleLock = new ReentrantLock();
+    private final Condition workAvailable = idleLock.newCondition();
+
+    public WorkStealingPool(int nThreads) {
+        if (nThreads <= 0)
+            throw new IllegalArgumentException("nThreads must be positive");
+        workers = new Worker[nThreads];
+        for (int i = 0; i < nThreads; i++)
+            workers[i] = new Worker(i);
+        for (Worker worker : workers)
+            worker.start();
+    }
+
+    public WorkStealingPool() { this(Runtime.getRuntime().availableProcessors()); }
+
+    /*
+     * 辅助方法
+     * */
+    private void signalWork() {  // 有新任务时唤醒一个空闲的工作线程，没有空闲线程时不加锁
+        if (idleWorkers.get() == 0)
+            return;
+        idleLock.lock();
+        try {
+            workAvailable.signal();
+        } finally {
+            idleLock.unlock();
+        }
+    }
+
+    public <T> T invoke(Task<T> task) {  // 提交任务并等待其完成，返回结果
+        if (shutdown)
+            throw new IllegalArgumentException("invoke failed. Pool is shut down.");
+        if (Thread.currentThread() instanceof Worker)  // 在任务中调用则直接在当前线程上执行
+            return task.compute();
+        task.waiter = Thread.currentThread();  // 先设置 waiter 再提交，保证任务完成时一定能看到 waiter
+        submissions.enqueue(task);
+        signalWork();
+        return task.join();
+    }
+
+    public void shutdown() {  // 工作线程执行完手头的任务后退出
+        shutdown = true;
+        idleLock.lock();
+        try {
+            workAvailable.signalAll();
+        } finally {
+            idleLock.unlock();
+        }
+        for (Worker worker : workers)
+            worker.interrupt();
+    }
+
+    public int getParallelism() { return workers.length; }
+}
@@ -0,0 +1,102 @@
+package Queue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class WorkStealingPoolTest {
+    private static class Sum extends WorkStealingPool.Task<Long> {  // 递归地把数组分成两半求和
+        private final int[] arr;
+        private final int l, r;
+
+        Sum(int[] arr, int l, int r) {
+            this.arr = arr;
+            this.l = l;
+            this.r = r;
+        }
+
+        @Override
+        protected Long compute() {
+            if (r - l <= 10000) {
+                long sum = 0;
+                for (int i = l; i < r; i++)
+                    sum += arr[i];
+                return sum;
+            }
+            int mid = l + (r - l) / 2;
+            Sum left = new Sum(arr, l, mid);
+            Sum right = new Sum(arr, mid, r);
+            left.fork();
+            return right.compute() + left.join();
+        }
+    }
+
+    private static class MergeSort extends WorkStealingPool.Task<Void> {  // 并行归并排序，左右两半并行排序后再合并
+        private final int[] arr, aux;
+        private final int l, r;
+
+        MergeSort(int[] arr, int[] aux, int l, int r) {
+            this.arr = arr;
+            this.aux = aux;
+            this.l = l;
+            this.r = r;
+        }
+
+        @Override
+        protected Void compute() {
+            if (r - l <= 4096) {
+                Arrays.sort(arr, l, r);
+                return null;
+            }
+            int mid = l + (r - l) / 2;
+            MergeSort left = new MergeSort(arr, aux, l, mid);
+            left.fork();
+            new MergeSort(arr, aux, mid, r).compute();
+            left.join();
+
+            System.arraycopy(arr, l, aux, l, r - l);
+            for (int i = l, j = mid, k = l; k < r; k++) {
+                if (i >= mid)
+                    arr[k] = aux[j++];
+                else if (j >= r)
+                    arr[k] = aux[i++];
+                else
+                    arr[k] = aux[i] <= aux[j] ? aux[i++] : aux[j++];
+            }
+            return null;
+        }
+    }
+
+    public static void main(String[] args) {
+        int n = 10000000;
+        int[] arr = new int[n];
+        Random random = new Random();
+        for (int i = 0; i < n; i++)
+            arr[i] = random.nextInt(1000);
+
+        WorkStealingPool pool = new WorkStealingPool();
+        System.out.println("parallelism: " + pool.getParallelism());
+
+        long expected = 0;
+        for (int x : arr)
+            expected += x;
+        long startTime = System.nanoTime();
+        long sum = pool.invoke(new Sum(arr, 0, n));
+        System.out.println(String.format("parallel sum: %d (expected %d), %.3f s", sum, expected, (System.nanoTime() - startTime) / 1e9));
+
+        int[] sorted = arr.clone();
+        Arrays.sort(sorted);
+        startTime = System.nanoTime();
+        pool.invoke(new MergeSort(arr, new int[n], 0, n));
+        System.out.println(String.format("parallel merge sort: correct = %b, %.3f s", Arrays.equals(arr, sorted), (System.nanoTime() - startTime) / 1e9));
+
+        try {  // 任务中抛出的异常会在 join 时重新抛出
+            pool.invoke(new WorkStealingPool.Task<Integer>() {
+                @Override
+                protected Integer compute() { throw new IllegalStateException("boom"); }
+            });
+        } catch (RuntimeException ex) {
+            System.out.println("exception propagated: " + ex.getCause());
+        }
+        pool.shutdown();
+    }
+}
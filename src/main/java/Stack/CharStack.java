@@ -0,0 +1,90 @@
+package Stack;
+
+import java.util.Arrays;
+
+/*
+ * - IntStack 的 char 特化版本，用于括号匹配（SEE: L20_Valid_Parentheses）、词法分析等按字符处理的场景，SEE: IntStack.java
+ * */
+
+public class CharStack {
+    private char[] data;
+    private int size;
+
+    public CharStack(int capacity) {
+        if (capacity < 0)
+            throw new IllegalArgumentException("capacity must be non-negative");
+        data = new char[capacity];
+        size = 0;
+    }
+
+    public CharStack() { this(10); }
+
+    /*
+     * 辅助方法
+     * */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > data.length)
+            data = Arrays.copyOf(data, Math.max(data.length * 2, minCapacity));
+    }
+
+    /*
+     * 增操作
+     * */
+    public void push(char e) {
+        if (size == data.length)
+            ensureCapacity(size + 1);
+        data[size++] = e;
+    }
+
+    public void pushAll(char[] src) { pushAll(src, 0, src.length); }
+
+    public void pushAll(char[] src, int from, int len) {  // 依次 push src[from, from + len)，只扩容一次、用 System.arraycopy 整体拷贝
+        if (from < 0 || len < 0 || from + len > src.length)
+            throw new IllegalArgumentException("pushAll failed. Require from >= 0, len >= 0 and from + len <= src.length");
+        ensureCapacity(size + len);
+        System.arraycopy(src, from, data, size, len);
+        size += len;
+    }
+
+    /*
+     * 删操作
+     * */
+    public char pop() {
+        if (isEmpty())
+            throw new IllegalArgumentException("pop failed. Stack is empty.");
+        return data[--size];  // primitive 类型不需要把空出来的位置置为 null
+    }
+
+    public void clear() { size = 0; }  // 只清空元素，保留底层数组，复用时不再需要重新分配和扩容
+
+    /*
+     * 查操作
+     * */
+    public char peek() {
+        if (isEmpty())
+            throw new IllegalArgumentException("peek failed. Stack is empty.");
+        return data[size - 1];
+    }
+
+    public int getSize() { return size; }
+
+    public int getCapacity() { return data.length; }
+
+    public boolean isEmpty() { return size == 0; }
+
+    public char[] toArray() { return Arrays.copyOf(data, size); }  // 从栈底到栈顶
+
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder();
+        s.append(String.format("Size = %d ", size));
+        s.append("[");
+        for (int i = 0; i < size; i++) {
+            s.append(data[i]);
+            if (i != size - 1)
+                s.append(", ");
+        }
+        s.append("] <- top \n");
+        return s.toString();
+    }
+}
@@ -0,0 +1,97 @@
+package Stack;
+
+import java.util.Arrays;
+
+/*
+ * - ArrayStack 底层是 Array<E>，push 进去的 int 都会被装箱成 Integer；LinkedListStack 则每次 push 都要创建一个节点。
+ *   对于表达式求值、词法分析这类每秒 push/pop 上百万次的场景，这些临时对象会给 GC 带来很大的压力。
+ * - IntStack 直接使用 int[]，不装箱，也不创建任何节点，push/pop 不产生垃圾。同理还有 LongStack、CharStack。
+ * - 与 ArrayStack 的区别：
+ *   1. pushAll：批量入栈时只检查一次容量，并用 System.arraycopy 整体拷贝；
+ *   2. clear：只把 size 置0，保留已经扩容好的数组，同一个栈反复使用时不再分配内存；
+ *   3. 只扩容不缩容（缩容要重新分配数组，与"不产生垃圾"的目标相悖）。
+ * - 由于 Stack 接口是泛型的，primitive 类型无法实现它（实现它就必须装箱），因此方法名与 Stack 保持一致，但不实现 Stack 接口。
+ * */
+
+public class IntStack {
+    private int[] data;
+    private int size;
+
+    public IntStack(int capacity) {
+        if (capacity < 0)
+            throw new IllegalArgumentException("capacity must be non-negative");
+        data = new int[capacity];
+        size = 0;
+    }
+
+    public IntStack() { this(10); }
+
+    /*
+     * 辅助方法
+     * */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > data.length)
+            data = Arrays.copyOf(data, Math.max(data.length * 2, minCapacity));
+    }
+
+    /*
+     * 增操作
+     * */
+    public void push(int e) {
+        if (size == data.length)
+            ensureCapacity(size + 1);
+        data[size++] = e;
+    }
+
+    public void pushAll(int[] src) { pushAll(src, 0, src.length); }
+
+    public void pushAll(int[] src, int from, int len) {  // 依次 push src[from, from + len)，只扩容一次、用 System.arraycopy 整体拷贝
+        if (from < 0 || len < 0 || from + len > src.length)
+            throw new IllegalArgumentException("pushAll failed. Require from >= 0, len >= 0 and from + len <= src.length");
+        ensureCapacity(size + len);
+        System.arraycopy(src, from, data, size, len);
+        size += len;
+    }
+
+    /*
+     * 删操作
+     * */
+    public int pop() {
+        if (isEmpty())
+            throw new IllegalArgumentException("pop failed. Stack is empty.");
+        return data[--size];  // primitive 类型不需要把空出来的位置置为 null
+    }
+
+    public void clear() { size = 0; }  // 只清空元素，保留底层数组，复用时不再需要重新分配和扩容
+
+    /*
+     * 查操作
+     * */
+    public int peek() {
+        if (isEmpty())
+            throw new IllegalArgumentException("peek failed. Stack is empty.");
+        return data[size - 1];
+    }
+
+    public int getSize() { return size; }
+
+    public int getCapacity() { return data.length; }
+
+    public boolean isEmpty() { return size == 0; }
+
+    public int[] toArray() { return Arrays.copyOf(data, size); }  // 从栈底到栈顶
+
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder();
+        s.append(String.format("Size = %d ", size));
+        s.append("[");
+        for (int i = 0; i < size; i++) {
+            s.append(data[i]);
+            if (i != size - 1)
+                s.append(", ");
+        }
+        s.append("] <- top \n");
+        return s.toString();
+    }
+}
@@ -0,0 +1,24 @@
+package Stack;
+
+public class IntStackTest {
+    public static void main(String[] args) {
+        IntStack stack = new IntStack(5);
+
+        for (int i = 0; i < 5; i++) {
+            stack.push(i);
+            System.out.print(stack);
+        }
+
+        stack.pushAll(new int[]{10, 11, 12});  // 触发一次扩容
+        System.out.print(stack);
+        System.out.println("pop: " + stack.pop() + ", peek: " + stack.peek() + ", capacity: " + stack.getCapacity());
+
+        stack.clear();  // 清空后容量不变，之后的 push 不再需要扩容
+        System.out.print(stack);
+        System.out.println("capacity after clear: " + stack.getCapacity());
+
+        CharStack chars = new CharStack();
+        chars.pushAll("([{".toCharArray());
+        System.out.print(chars);
+    }
+}
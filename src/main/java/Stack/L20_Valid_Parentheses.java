@@ -1,13 +1,17 @@
 package Stack;
 
-import java.util.Stack;
+/*
+ * - 使用 CharStack 代替 java.util.Stack<Character>：不装箱，也没有 Stack（继承自 Vector）每个方法上的 synchronized 开销。
+ * - 用 charAt 遍历，不再通过 toCharArray 拷贝一份字符数组。
+ * */
 
 public class L20_Valid_Parentheses {
 
     public boolean isValid(String s) {
-        Stack<Character> stack = new Stack<Character>();
+        CharStack stack = new CharStack(s.length() / 2 + 1);  // 合法的字符串中最多有一半是左括号
 
-        for (char c : s.toCharArray()) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
             if (this.isOpenningBracket(c))
                 stack.push(c);
             else if (stack.isEmpty() || !this.match(stack.pop(), c))
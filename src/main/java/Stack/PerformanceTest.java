@@ -8,6 +8,7 @@ import java.util.Random;
 * - 注意这个结果不是一定的。当元素过多的时候（如一千万），LinkedListStack 中的 new 操作会在某些系统上会比 ArrayStack 更耗时，
 *   因为链表在内存中不是连续储存的，因此没有像 Array 那样被 JVM 优化。因此在添加节点时需要寻找可以为节点开辟空间的地方，在删除的
 *   时候也需要通过上一个节点的链接找到内存中下一个节点的位置。
+* - IntStack 不装箱，push/pop 不产生任何对象。这里 opCount 较小、耗时主要在 Random 上，差距不明显；元素越多、GC 压力越大时差距越明显。
 * - 但总的来说，LinkedListStack 和 ArrayStack 的性能差距不大（同一复杂度），不像 ArrayQueue 和 LoopQueue 那样有量级上的差别。
 * */
 
@@ -26,6 +27,20 @@ public class PerformanceTest {
         return (endTime - startTime) / 1000000000.0;  // 单位转为秒
     }
 
+    private static double testIntStack(IntStack stack, int opCount) {
+        Random random = new Random();
+        long startTime = System.nanoTime();
+
+        for (int i = 0; i < opCount; i++)
+            stack.push(random.nextInt(Integer.MAX_VALUE));
+
+        for (int i = 0; i < opCount; i++)
+            stack.pop();
+
+        long endTime = System.nanoTime();
+        return (endTime - startTime) / 1000000000.0;
+    }
+
     public static void main(String[] args) {
         int opCount = 100000;
         ArrayStack<Integer> aStack = new ArrayStack<Integer>();
@@ -36,5 +51,11 @@ public class PerformanceTest {
 
         double t2 = PerformanceTest.testStack(lStack, opCount);
         System.out.println("LinkedListStack: " + t2 + " s");
+
+        double t3 = PerformanceTest.testStack(new Queue.ArrayDeque<Integer>(), opCount);  // ArrayDeque 同时实现了 Stack 和 Queue
+        System.out.println("ArrayDeque: " + t3 + " s");
+
+        double t4 = PerformanceTest.testIntStack(new IntStack(), opCount);
+        System.out.println("IntStack: " + t4 + " s");
     }
 }
@@ -0,0 +1,215 @@
+package Stack;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/*
+ * - 流式括号匹配：L20_Valid_Parentheses 的思路（遇到左括号入栈，遇到右括号出栈并检查是否匹配），但输入不再是一个完整的
+ *   String，而是可以分块读入的字节流，用于校验几个 GB 的 JSON、日志文件的嵌套结构：
+ *   - 从 ReadableByteChannel 中每次读入一块（默认 64KB）处理，或者对文件做内存映射（mmap），每次映射一段窗口处理，
+ *     内存占用只与块大小和嵌套深度有关，与文件大小无关；
+ *   - 直接按字节处理，不解码成 char：括号都是 ASCII 字符，而 UTF-8 中多字节字符的每个字节都 >= 0x80，不会被误认为括号；
+ *   - 栈使用 CharStack，不装箱；
+ *   - 发现第一个不匹配的右括号时停止，报告它在整个输入中的字节偏移量；输入结束时栈不为空，则报告输入末尾的偏移量。
+ *
+ * - 字符串：JSON 的字符串中可以出现任意括号（如 "a(b"），这些括号不应该参与匹配。skipQuotedStrings 为 true 时跳过双引号
+ *   之间的内容（支持 \" 转义）。
+ *
+ * - 断点续传（checkpoint/resume）：处理到一半时可以通过 checkpoint() 保存当前状态（已处理的字节数、栈中的括号、是否在
+ *   字符串中），之后用 StreamingBracketValidator(Checkpoint) 从这个状态继续处理剩下的输入。Checkpoint 可以序列化，
+ *   因此可以在进程重启之后继续。
+ *
+ * - 并行：每个 StreamingBracketValidator 只处理一个输入，彼此之间没有共享状态。validateAll 用并行流同时校验多个文件。
+ * */
+
+public class StreamingBracketValidator {
+    private static final int defaultChunkSize = 64 * 1024;
+    private static final long mapWindowSize = 256L * 1024 * 1024;  // 每次映射 256MB（单个 MappedByteBuffer 最大只能是 2GB）
+
+    public static final class Checkpoint implements Serializable {
+        private static final long serialVersionUID = 1L;  // Checkpoint 会被持久化，字段变化时需要同时修改该值，使旧的断点反序列化时报错
+
+        private final long offset;
+        private final char[] openBrackets;  // 从栈底到栈顶
+        private final boolean skipQuotedStrings, inString, escaped;
+
+        private Checkpoint(long offset, char[] openBrackets, boolean skipQuotedStrings, boolean inString, boolean escaped) {
+            this.offset = offset;
+            this.openBrackets = openBrackets;
+            this.skipQuotedStrings = skipQuotedStrings;
+            this.inString = inString;
+            this.escaped = escaped;
+        }
+
+        public long getOffset() { return offset; }
+
+        public int getDepth() { return openBrackets.length; }
+    }
+
+    public static final class Result {
+        private final long errorOffset;  // 没有错误时为 -1
+        private final String message;
+
+        private Result(long errorOffset, String message) {
+            this.errorOffset = errorOffset;
+            this.message = message;
+        }
+
+        public boolean isValid() { return errorOffset < 0; }
+
+        public long getErrorOffset() { return errorOffset; }
+
+        @Override
+        public String toString() { return isValid() ? "valid" : "invalid at offset " + errorOffset + ": " + message; }
+    }
+
+    private final boolean skipQuotedStrings;
+    private final CharStack stack;
+    private long offset;           // 已经处理的字节数
+    private boolean inString;      // 当前是否在双引号中
+    private boolean escaped;       // 上一个字符是否是字符串中的反斜杠
+    private long errorOffset = -1;
+    private String errorMessage;
+
+    public StreamingBracketValidator(boolean skipQuotedStrings) {
+        this.skipQuotedStrings = skipQuotedStrings;
+        stack = new CharStack(64);
+        offset = 0;
+    }
+
+    public StreamingBracketValidator() { this(false); }
+
+    public StreamingBracketValidator(Checkpoint checkpoint) {  // 从断点继续
+        this(checkpoint.skipQuotedStrings);
+        stack.pushAll(checkpoint.openBrackets);
+        offset = checkpoint.offset;
+        inString = checkpoint.inString;
+        escaped = checkpoint.escaped;
+    }
+
+    /*
+     * 辅助方法
+     * */
+    private static char openingOf(byte closing) {
+        return closing == ')' ? '(' : closing == ']' ? '[' : '{';
+    }
+
+    private void fail(long at, String message) {
+        errorOffset = at;
+        errorMessage = message;
+    }
+
+    /*
+     * 处理输入
+     * */
+    public boolean feed(ByteBuffer buf) {  // 处理 buf 中 [position, limit) 的字节，处理完后 position = limit。返回目前为止是否合法
+        if (errorOffset >= 0)
+            return false;
+        int start = buf.position(), limit = buf.limit();
+        for (int i = start; i < limit; i++) {  // 使用绝对位置的 get(i)，对堆内存和 mmap 的 buffer 都适用
+            byte c = buf.get(i);
+            if (inString) {
+                if (escaped)
+                    escaped = false;
+                else if (c == '\\')
+                    escaped = true;
+                else if (c == '"')
+                    inString = false;
+                continue;
+            }
+            switch (c) {
+                case '"':
+                    inString = skipQuotedStrings;
+                    break;
+                case '(': case '[': case '{':
+                    stack.push((char) c);
+                    break;
+                case ')': case ']': case '}':
+                    if (stack.isEmpty()) {
+                        fail(offset + (i - start), "unexpected '" + (char) c + "'");
+                        buf.position(i);
+                        return false;
+                    }
+                    char open = stack.pop();
+                    if (open != openingOf(c)) {
+                        fail(offset + (i - start), "'" + open + "' closed by '" + (char) c + "'");
+                        buf.position(i);
+                        return false;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        offset += limit - start;
+        buf.position(limit);
+        return true;
+    }
+
+    public Result finish() {  // 输入结束，返回最终结果
+        if (errorOffset < 0 && !stack.isEmpty())
+            fail(offset, stack.getSize() + " unclosed bracket(s), innermost '" + stack.peek() + "'");
+        return new Result(errorOffset, errorMessage);
+    }
+
+    public Result validate(ReadableByteChannel channel) throws IOException {  // 从 channel 的当前位置读到末尾
+        ByteBuffer buf = ByteBuffer.allocate(defaultChunkSize);
+        while (channel.read(buf) != -1) {
+            buf.flip();
+            if (!feed(buf))
+                break;
+            buf.clear();
+        }
+        return finish();
+    }
+
+    public Result validate(Path file) throws IOException {  // 内存映射文件，从 getOffset()（新建的为0，从断点继续的为断点处）开始处理
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            while (offset < size) {
+                long len = Math.min(mapWindowSize, size - offset);
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, offset, len);
+                if (!feed(window))
+                    break;
+            }
+        }
+        return finish();
+    }
+
+    public static List<Result> validateAll(List<Path> files, boolean skipQuotedStrings) {  // 并行校验多个文件，结果与 files 一一对应
+        return files.parallelStream()
+                .map(file -> {
+                    try {
+                        return new StreamingBracketValidator(skipQuotedStrings).validate(file);
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                })
+                .collect(Collectors.toList());
+    }
+
+    /*
+     * 断点
+     * */
+    public Checkpoint checkpoint() {
+        return new Checkpoint(offset, stack.toArray(), skipQuotedStrings, inString, escaped);
+    }
+
+    /*
+     * 查操作
+     * */
+    public long getOffset() { return offset; }
+
+    public int getDepth() { return stack.getSize(); }
+
+    public boolean hasError() { return errorOffset >= 0; }
+}
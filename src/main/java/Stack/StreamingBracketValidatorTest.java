@@ -0,0 +1,71 @@
+package Stack;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+public class StreamingBracketValidatorTest {
+    private static Path writeJsonLines(int lines, boolean corrupt) throws IOException {  // 生成一个每行一条 JSON 记录的日志文件
+        Path file = Files.createTempFile("brackets", ".log");
+        file.toFile().deleteOnExit();
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            for (int i = 0; i < lines; i++) {
+                String line = "{\"id\": " + i + ", \"msg\": \"call f(x) -> [ok}\", \"tags\": [\"a\", {\"k\": [1, 2, 3]}]}\n";
+                if (corrupt && i == lines / 2)
+                    line = line.replace("3]}]}", "3}]}");
+                out.write(line.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return file;
+    }
+
+    public static void main(String[] args) throws IOException {
+        // 1. 与 L20 相同的用法，输入按任意大小分块送入
+        StreamingBracketValidator v = new StreamingBracketValidator();
+        byte[] input = "{[()()]}([)]".getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < input.length; i += 3)
+            v.feed(ByteBuffer.wrap(input, i, Math.min(3, input.length - i)));
+        System.out.println("{[()()]}([)] -> " + v.finish() + "\n");
+
+        // 2. 大文件：内存映射 vs channel 分块读取（JSON 字符串中的括号被跳过）
+        Path good = writeJsonLines(1000000, false);
+        Path bad = writeJsonLines(1000000, true);
+        System.out.println(String.format("file size: %.1f MB", Files.size(good) / 1e6));
+
+        long startTime = System.nanoTime();
+        StreamingBracketValidator.Result r1 = new StreamingBracketValidator(true).validate(good);
+        System.out.println(String.format("mmap:    %s, %.3f s", r1, (System.nanoTime() - startTime) / 1e9));
+
+        startTime = System.nanoTime();
+        StreamingBracketValidator.Result r2;
+        try (FileChannel channel = FileChannel.open(bad)) {
+            r2 = new StreamingBracketValidator(true).validate(channel);
+        }
+        System.out.println(String.format("channel: %s, %.3f s\n", r2, (System.nanoTime() - startTime) / 1e9));
+
+        // 3. 断点续传：处理前 1MB 后保存断点，再从断点处继续处理剩下的部分
+        StreamingBracketValidator first = new StreamingBracketValidator(true);
+        try (FileChannel channel = FileChannel.open(bad)) {
+            ByteBuffer buf = ByteBuffer.allocate(1 << 20);
+            channel.read(buf);
+            buf.flip();
+            first.feed(buf);
+        }
+        StreamingBracketValidator.Checkpoint checkpoint = first.checkpoint();
+        System.out.println("checkpoint at offset " + checkpoint.getOffset() + ", depth " + checkpoint.getDepth()
+                + ", resumed: " + new StreamingBracketValidator(checkpoint).validate(bad) + "\n");
+
+        // 4. 并行校验多个文件
+        List<Path> files = Arrays.asList(good, bad, good, bad);
+        startTime = System.nanoTime();
+        List<StreamingBracketValidator.Result> results = StreamingBracketValidator.validateAll(files, true);
+        System.out.println(String.format("validateAll: %s, %.3f s", results, (System.nanoTime() - startTime) / 1e9));
+    }
+}